@@ -0,0 +1,71 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2018 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Defines a named fetch plan for an entity. A fetch plan decides how the associations ({@code @Ref},
+ * {@code @Relations}, {@code @From}, {@code @To}) of the entity are loaded while it is active, see
+ * {@link WithFetchPlan} and {@link com.arangodb.springframework.core.ArangoOperations#withFetchPlan}. Associations
+ * which are not listed keep the behavior of their annotation. Entities without a plan of the active name are loaded
+ * as annotated.
+ * 
+ * @author Mark Vollmary
+ *
+ */
+@Repeatable(FetchPlans.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.TYPE })
+public @interface FetchPlan {
+
+	/**
+	 * @return The name of the fetch plan
+	 */
+	String name();
+
+	/**
+	 * @return Names of properties which are loaded eagerly. Within query results they are loaded with one request per
+	 *         referenced collection and batch.
+	 */
+	String[] eager() default {};
+
+	/**
+	 * @return Names of properties which are fetch joined into the queries of {@code findAll} and derived query
+	 *         methods and loaded eagerly otherwise
+	 */
+	String[] join() default {};
+
+	/**
+	 * @return Names of properties which are loaded lazily
+	 */
+	String[] lazy() default {};
+
+	/**
+	 * @return Names of properties which are not loaded at all and stay {@code null}
+	 */
+	String[] skip() default {};
+
+}
@@ -0,0 +1,60 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2018 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Caches the results of a repository query method on the client side. Results are cached per AQL query and bind
+ * parameters and are invalidated as soon as one of the collections read by the query is written through the
+ * {@link com.arangodb.springframework.core.template.ArangoTemplate} of the repository. The raw documents are cached,
+ * every call reads its own entities from them. Writes of other processes are not recognized.
+ * 
+ * @author Mark Vollmary
+ *
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface QueryResultCache {
+
+	/**
+	 * @return The maximum number of cached results. If exceeded, the least recently used result is evicted.
+	 */
+	int maxSize() default 1000;
+
+	/**
+	 * @return The time-to-live (in milliseconds) for a cached result. If not set, a result is cached until one of the
+	 *         collections read by the query is written.
+	 */
+	long timeToLive() default -1;
+
+	/**
+	 * @return Additional collections read by the query, e.g. through traversals or joins written in AQL. The
+	 *         collections of the repository domain class, of the entities reachable through its relations
+	 *         ({@code @Ref}, {@code @Relations}, {@code @From}, {@code @To}) and collections given as bind parameters are
+	 *         always included.
+	 */
+	String[] collections() default {};
+
+}
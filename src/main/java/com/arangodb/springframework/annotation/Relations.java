@@ -62,4 +62,11 @@ public @interface Relations {
 	 */
 	boolean lazy() default false;
 
+	/**
+	 * @return whether the relation should be loaded within the query of the owning entity (fetch join) instead of a
+	 *         separate query per entity. Applies to {@code findAll} and derived queries. Ignored if {@link #lazy()} is
+	 *         set.
+	 */
+	boolean join() default false;
+
 }
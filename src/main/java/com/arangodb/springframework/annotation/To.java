@@ -38,4 +38,31 @@ public @interface To {
 	 */
 	boolean lazy() default false;
 
+	/**
+	 * @return whether the relation should be loaded within the query of the owning entity (fetch join) instead of a
+	 *         separate query per entity. Applies to {@code findAll} and derived queries. On an edge entity the vertex
+	 *         is embedded into queries for the edge. Ignored if {@link #lazy()} is set.
+	 */
+	boolean join() default false;
+
+	/**
+	 * @return the maximum number of edges loaded for a collection or array property. By default all edges are loaded.
+	 */
+	int limit() default -1;
+
+	/**
+	 * @return the order of the loaded edges as edge attributes with an optional direction, e.g. {@code "date DESC"}.
+	 *         For a single value property, the first edge in this order is loaded.
+	 */
+	String[] sort() default {};
+
+	/**
+	 * @return the edge attributes to load. System attributes (starting with an underscore) are always loaded,
+	 *         properties of other attributes stay empty. By default all attributes are loaded. Edges loaded with a
+	 *         projection are read-only, writing them throws an
+	 *         {@link org.springframework.dao.InvalidDataAccessApiUsageException}, as it would remove the attributes
+	 *         which were not loaded.
+	 */
+	String[] fields() default {};
+
 }
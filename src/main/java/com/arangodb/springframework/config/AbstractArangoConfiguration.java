@@ -23,9 +23,14 @@ package com.arangodb.springframework.config;
 import java.lang.annotation.Annotation;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 
+import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.convert.converter.Converter;
@@ -47,10 +52,12 @@ import com.arangodb.springframework.core.convert.ArangoCustomConversions;
 import com.arangodb.springframework.core.convert.ArangoTypeMapper;
 import com.arangodb.springframework.core.convert.DefaultArangoConverter;
 import com.arangodb.springframework.core.convert.DefaultArangoTypeMapper;
+import com.arangodb.springframework.core.convert.resolver.AbstractResolver;
 import com.arangodb.springframework.core.convert.resolver.DocumentFromResolver;
 import com.arangodb.springframework.core.convert.resolver.DocumentToResolver;
 import com.arangodb.springframework.core.convert.resolver.EdgeFromResolver;
 import com.arangodb.springframework.core.convert.resolver.EdgeToResolver;
+import com.arangodb.springframework.core.convert.resolver.LazyReferencePrefetcher;
 import com.arangodb.springframework.core.convert.resolver.RefResolver;
 import com.arangodb.springframework.core.convert.resolver.ReferenceResolver;
 import com.arangodb.springframework.core.convert.resolver.RelationResolver;
@@ -73,7 +80,23 @@ public abstract class AbstractArangoConfiguration {
 
 	@Bean
 	public ArangoOperations arangoTemplate() throws Exception {
-		return new ArangoTemplate(arango().build(), database(), arangoConverter());
+		final ArangoTemplate template = new ArangoTemplate(arango().build(), database(), arangoConverter());
+		final Executor executor = arangoExecutor();
+		if (executor != null) {
+			template.setExecutor(executor);
+		}
+		return template;
+	}
+
+	/**
+	 * Override to provide the executor which sends the chunks of bulk operations and of
+	 * {@link ArangoOperations#find(Iterable, Class)} and reconciles the schema (see
+	 * {@link ArangoTemplate#setExecutor(Executor)}). The tasks block on I/O, so the executor should be bounded.
+	 * 
+	 * @return the executor or null to use the pool of the template (default)
+	 */
+	protected Executor arangoExecutor() {
+		return null;
 	}
 
 	@Bean
@@ -87,8 +110,9 @@ public abstract class AbstractArangoConfiguration {
 
 	@Bean
 	public ArangoConverter arangoConverter() throws Exception {
-		return new DefaultArangoConverter(arangoMappingContext(), customConversions(), resolverFactory(),
-				arangoTypeMapper());
+		final ArangoMappingContext context = arangoMappingContext();
+		AbstractResolver.prepareProxyTypes(context);
+		return new DefaultArangoConverter(context, customConversions(), resolverFactory(), arangoTypeMapper());
 	}
 
 	protected CustomConversions customConversions() {
@@ -119,18 +143,60 @@ public abstract class AbstractArangoConfiguration {
 		return new DefaultArangoTypeMapper(typeKey(), arangoMappingContext());
 	}
 
+	/**
+	 * Override to create the missing collections and indexes of all entities at startup (see
+	 * {@link ArangoTemplate#reconcileSchema()}) instead of on the first operation per entity.
+	 * 
+	 * @return whether to reconcile the schema at startup (default false)
+	 */
+	protected boolean reconcileSchemaOnStartup() {
+		return false;
+	}
+
+	@Bean
+	public SmartInitializingSingleton arangoSchemaReconciliation() {
+		return () -> {
+			if (!reconcileSchemaOnStartup()) {
+				return;
+			}
+			try {
+				final ArangoOperations template = arangoTemplate();
+				if (template instanceof ArangoTemplate) {
+					((ArangoTemplate) template).reconcileSchema();
+				}
+			} catch (final RuntimeException e) {
+				throw e;
+			} catch (final Exception e) {
+				throw new ArangoDBException(e);
+			}
+		};
+	}
+
+	/**
+	 * Override to load lazy references ({@code @Ref(lazy = true)}) speculatively in the background as soon as the
+	 * referencing entity is read.
+	 * 
+	 * @return the executor to load lazy references on or null to load them on first access (default)
+	 */
+	protected Executor lazyReferencePrefetchExecutor() {
+		return null;
+	}
+
 	protected ResolverFactory resolverFactory() {
 		return new ResolverFactory() {
+			// resolvers are stateless and shared by all reads
+			private final Map<Class<?>, Object> resolvers = new ConcurrentHashMap<>();
+
 			@SuppressWarnings("unchecked")
 			@Override
 			public <A extends Annotation> Optional<ReferenceResolver<A>> getReferenceResolver(final A annotation) {
 				ReferenceResolver<A> resolver = null;
-				try {
-					if (annotation instanceof Ref) {
-						resolver = (ReferenceResolver<A>) new RefResolver(arangoTemplate());
-					}
-				} catch (final Exception e) {
-					throw new ArangoDBException(e);
+				if (annotation instanceof Ref) {
+					resolver = (ReferenceResolver<A>) getResolver(RefResolver.class, template -> {
+						final Executor executor = lazyReferencePrefetchExecutor();
+						return new RefResolver(template,
+								executor != null ? new LazyReferencePrefetcher(template, executor) : null);
+					});
 				}
 				return Optional.ofNullable(resolver);
 			}
@@ -141,27 +207,34 @@ public abstract class AbstractArangoConfiguration {
 				final A annotation,
 				final Class<? extends Annotation> collectionType) {
 				RelationResolver<A> resolver = null;
-				try {
-					if (annotation instanceof From) {
-						if (collectionType == Edge.class) {
-							resolver = (RelationResolver<A>) new EdgeFromResolver(arangoTemplate());
-						} else if (collectionType == Document.class) {
-							resolver = (RelationResolver<A>) new DocumentFromResolver(arangoTemplate());
-						}
-					} else if (annotation instanceof To) {
-						if (collectionType == Edge.class) {
-							resolver = (RelationResolver<A>) new EdgeToResolver(arangoTemplate());
-						} else if (collectionType == Document.class) {
-							resolver = (RelationResolver<A>) new DocumentToResolver(arangoTemplate());
-						}
-					} else if (annotation instanceof Relations) {
-						resolver = (RelationResolver<A>) new RelationsResolver(arangoTemplate());
+				if (annotation instanceof From) {
+					if (collectionType == Edge.class) {
+						resolver = (RelationResolver<A>) getResolver(EdgeFromResolver.class, EdgeFromResolver::new);
+					} else if (collectionType == Document.class) {
+						resolver = (RelationResolver<A>) getResolver(DocumentFromResolver.class,
+							DocumentFromResolver::new);
 					}
-				} catch (final Exception e) {
-					throw new ArangoDBException(e);
+				} else if (annotation instanceof To) {
+					if (collectionType == Edge.class) {
+						resolver = (RelationResolver<A>) getResolver(EdgeToResolver.class, EdgeToResolver::new);
+					} else if (collectionType == Document.class) {
+						resolver = (RelationResolver<A>) getResolver(DocumentToResolver.class, DocumentToResolver::new);
+					}
+				} else if (annotation instanceof Relations) {
+					resolver = (RelationResolver<A>) getResolver(RelationsResolver.class, RelationsResolver::new);
 				}
 				return Optional.ofNullable(resolver);
 			}
+
+			private <R> R getResolver(final Class<R> type, final Function<ArangoOperations, R> constructor) {
+				return type.cast(resolvers.computeIfAbsent(type, t -> {
+					try {
+						return constructor.apply(arangoTemplate());
+					} catch (final Exception e) {
+						throw new ArangoDBException(e);
+					}
+				}));
+			}
 		};
 	}
 
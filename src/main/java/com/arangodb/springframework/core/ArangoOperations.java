@@ -22,6 +22,7 @@ package com.arangodb.springframework.core;
 
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import org.springframework.dao.DataAccessException;
 
@@ -29,12 +30,14 @@ import com.arangodb.ArangoCursor;
 import com.arangodb.ArangoDB;
 import com.arangodb.entity.ArangoDBVersion;
 import com.arangodb.entity.DocumentEntity;
+import com.arangodb.entity.DocumentImportEntity;
 import com.arangodb.entity.MultiDocumentEntity;
 import com.arangodb.entity.UserEntity;
 import com.arangodb.model.AqlQueryOptions;
 import com.arangodb.model.CollectionCreateOptions;
 import com.arangodb.model.DocumentCreateOptions;
 import com.arangodb.model.DocumentDeleteOptions;
+import com.arangodb.model.DocumentImportOptions;
 import com.arangodb.model.DocumentReadOptions;
 import com.arangodb.model.DocumentReplaceOptions;
 import com.arangodb.model.DocumentUpdateOptions;
@@ -352,7 +355,10 @@ public interface ArangoOperations {
 	<T> Iterable<T> findAll(Class<T> entityClass) throws DataAccessException;
 
 	/**
-	 * Retrieves multiple documents with the given {@code ids} from a collection.
+	 * Retrieves multiple documents with the given {@code ids} with one request per collection, large numbers of ids
+	 * in several requests of bounded size. Ids with a collection prefix are read from the referenced collection, keys
+	 * from the collection of the given entity class. The documents are returned in the order of the given
+	 * {@code ids}, documents which do not exist are omitted.
 	 *
 	 * @param ids
 	 *            The ids or keys of the documents
@@ -507,6 +513,105 @@ public interface ArangoOperations {
 	 */
 	<T> void repsert(Iterable<T> value, Class<T> entityClass) throws DataAccessException;
 
+	/**
+	 * Returns a writer for large amounts of documents, which sends the documents in chunks instead of one single
+	 * request.
+	 *
+	 * @param entityClass
+	 *            The entity class which represents the collection
+	 * @param options
+	 *            Additional options, can be null
+	 * @return {@link BulkWriter}
+	 * @throws DataAccessException
+	 */
+	<T> BulkWriter<T> bulkWriter(Class<T> entityClass, BulkOptions options) throws DataAccessException;
+
+	/**
+	 * Returns a writer for large amounts of documents, which sends the documents in chunks instead of one single
+	 * request.
+	 *
+	 * @param entityClass
+	 *            The entity class which represents the collection
+	 * @return {@link BulkWriter}
+	 * @throws DataAccessException
+	 */
+	<T> BulkWriter<T> bulkWriter(Class<T> entityClass) throws DataAccessException;
+
+	/**
+	 * Creates new documents from the given documents, unless there already exists a document matching the given
+	 * properties. In that case it updates or replaces the document. The documents are sent in chunks, each chunk is
+	 * processed by a single AQL {@code UPSERT} on the server.
+	 *
+	 * @see BulkWriter#upsert(Iterable, UpsertStrategy, String...)
+	 * @param values
+	 *            The documents to create, update or replace
+	 * @param entityClass
+	 *            The entity class which represents the collection
+	 * @param strategy
+	 *            The strategy to use when a document already exists
+	 * @param bulkOptions
+	 *            Options for the chunks, can be null
+	 * @param matchProperties
+	 *            The properties which identify an existing document. Defaults to the id property.
+	 * @return summary of the operation
+	 * @throws DataAccessException
+	 */
+	<T> BulkWriteResult upsert(
+		Iterable<? extends T> values,
+		Class<T> entityClass,
+		UpsertStrategy strategy,
+		BulkOptions bulkOptions,
+		String... matchProperties) throws DataAccessException;
+
+	/**
+	 * Imports documents over the import endpoint of the collection in parallel chunks.
+	 *
+	 * @see BulkWriter#importDocuments(Iterable, DocumentImportOptions)
+	 * @param values
+	 *            The documents to import
+	 * @param entityClass
+	 *            The entity class which represents the collection
+	 * @param options
+	 *            Additional options for the import, can be null
+	 * @param bulkOptions
+	 *            Options for the chunks, can be null
+	 * @return the summed up counts of all chunks
+	 * @throws DataAccessException
+	 */
+	<T> DocumentImportEntity importDocuments(
+		Iterable<? extends T> values,
+		Class<T> entityClass,
+		DocumentImportOptions options,
+		BulkOptions bulkOptions) throws DataAccessException;
+
+	/**
+	 * Imports documents over the import endpoint of the collection in chunks.
+	 *
+	 * @see BulkWriter#importDocuments(Iterable, DocumentImportOptions)
+	 * @param values
+	 *            The documents to import
+	 * @param entityClass
+	 *            The entity class which represents the collection
+	 * @param options
+	 *            Additional options for the import, can be null
+	 * @return the summed up counts of all chunks
+	 * @throws DataAccessException
+	 */
+	<T> DocumentImportEntity importDocuments(
+		Iterable<? extends T> values,
+		Class<T> entityClass,
+		DocumentImportOptions options) throws DataAccessException;
+
+	/**
+	 * Returns a unit of work which collects write operations and flushes them as grouped multi-document requests. If
+	 * a transaction synchronization is active, the unit of work bound to the current transaction is returned, which is
+	 * flushed before the transaction commits. Otherwise a new unit of work is returned, which is flushed on
+	 * {@link UnitOfWork#close()}.
+	 *
+	 * @return {@link UnitOfWork}
+	 */
+	UnitOfWork unitOfWork();
+
 	/**
 	 * Checks whether the document exists by reading a single document head
 	 *
@@ -578,6 +683,30 @@ public interface ArangoOperations {
 	 */
 	Iterable<UserEntity> getUsers() throws DataAccessException;
 
+	/**
+	 * Executes the given operation with the given fetch plan ({@link com.arangodb.springframework.annotation.FetchPlan})
+	 * being active. The fetch plan decides which associations of the read entities are loaded eagerly, lazily or not
+	 * at all. Cursors returned by the operation keep using the fetch plan while they are iterated.
+	 *
+	 * @param fetchPlan
+	 *            The name of the fetch plan
+	 * @param operation
+	 *            The operation to execute, e.g. {@code () -> operations.find(id, Customer.class)}
+	 * @return the result of the operation
+	 */
+	<T> T withFetchPlan(String fetchPlan, Supplier<T> operation);
+
+	/**
+	 * Executes the given operation within an identity map. Every document read by the operation, directly or through
+	 * references, is materialized only once and the same instance is returned for all reads of its {@code _id}.
+	 * Without an explicit identity map, instances are only shared within a single read operation or cursor batch.
+	 *
+	 * @param operation
+	 *            The operation to execute
+	 * @return the result of the operation
+	 */
+	<T> T withIdentityMap(Supplier<T> operation);
+
 	ArangoConverter getConverter();
 
 }
@@ -0,0 +1,95 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2018 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.core;
+
+/**
+ * Options for chunked bulk operations.
+ * 
+ * @author Mark Vollmary
+ *
+ */
+public class BulkOptions {
+
+	public static final int DEFAULT_CHUNK_SIZE = 1000;
+
+	private int chunkSize;
+	private int parallelism;
+	private boolean updateDBFields;
+
+	public BulkOptions() {
+		super();
+		chunkSize = DEFAULT_CHUNK_SIZE;
+		parallelism = 1;
+		updateDBFields = true;
+	}
+
+	public int getChunkSize() {
+		return chunkSize;
+	}
+
+	/**
+	 * @param chunkSize
+	 *            The maximum number of documents sent to the server within a single request. Only one chunk is
+	 *            converted in memory while the previous one is sent to the server.
+	 * @return options
+	 */
+	public BulkOptions chunkSize(final int chunkSize) {
+		if (chunkSize < 1) {
+			throw new IllegalArgumentException("chunkSize must be greater than 0");
+		}
+		this.chunkSize = chunkSize;
+		return this;
+	}
+
+	public int getParallelism() {
+		return parallelism;
+	}
+
+	/**
+	 * @param parallelism
+	 *            The maximum number of chunks sent to the server concurrently. With a value greater than 1 the order
+	 *            in which the chunks are applied on the server is not guaranteed.
+	 * @return options
+	 */
+	public BulkOptions parallelism(final int parallelism) {
+		if (parallelism < 1) {
+			throw new IllegalArgumentException("parallelism must be greater than 0");
+		}
+		this.parallelism = parallelism;
+		return this;
+	}
+
+	public boolean getUpdateDBFields() {
+		return updateDBFields;
+	}
+
+	/**
+	 * @param updateDBFields
+	 *            Whether the fields {@code _key}, {@code _id} and {@code _rev} of the written entities should be
+	 *            updated. Disabling it saves the work per document if the entities are not used afterwards.
+	 * @return options
+	 */
+	public BulkOptions updateDBFields(final boolean updateDBFields) {
+		this.updateDBFields = updateDBFields;
+		return this;
+	}
+
+}
@@ -0,0 +1,52 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2018 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.core;
+
+import java.util.List;
+
+import org.springframework.dao.DataAccessException;
+
+/**
+ * Thrown if a chunk of a {@link BulkWriter} could not be written. The cause is the translated exception of the first
+ * failed chunk. Requests of chunks which were not yet sent are not sent anymore, requests already sent are awaited.
+ * 
+ * @author Mark Vollmary
+ *
+ */
+public class BulkWriteException extends DataAccessException {
+
+	private static final long serialVersionUID = -2958012395721637584L;
+
+	private final List<Integer> writtenChunks;
+
+	public BulkWriteException(final String msg, final Throwable cause, final List<Integer> writtenChunks) {
+		super(msg, cause);
+		this.writtenChunks = writtenChunks;
+	}
+
+	/**
+	 * @return the zero based indexes of the chunks which were written, in order
+	 */
+	public List<Integer> getWrittenChunks() {
+		return writtenChunks;
+	}
+
+}
@@ -0,0 +1,68 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2018 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.core;
+
+import java.util.Collection;
+
+import com.arangodb.entity.ErrorEntity;
+
+/**
+ * Summary of a chunked bulk operation. Unlike {@link com.arangodb.entity.MultiDocumentEntity} it does not hold the
+ * metadata of every written document.
+ * 
+ * @author Mark Vollmary
+ *
+ */
+public class BulkWriteResult {
+
+	private final long documents;
+	private final Collection<ErrorEntity> errors;
+	private final int chunks;
+
+	public BulkWriteResult(final long documents, final Collection<ErrorEntity> errors, final int chunks) {
+		super();
+		this.documents = documents;
+		this.errors = errors;
+		this.chunks = chunks;
+	}
+
+	/**
+	 * @return number of successfully written documents
+	 */
+	public long getDocuments() {
+		return documents;
+	}
+
+	/**
+	 * @return errors of the documents which could not be written
+	 */
+	public Collection<ErrorEntity> getErrors() {
+		return errors;
+	}
+
+	/**
+	 * @return number of requests sent to the server
+	 */
+	public int getChunks() {
+		return chunks;
+	}
+
+}
@@ -0,0 +1,154 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2018 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.core;
+
+import org.springframework.dao.DataAccessException;
+
+import com.arangodb.entity.DocumentImportEntity;
+import com.arangodb.model.DocumentCreateOptions;
+import com.arangodb.model.DocumentImportOptions;
+import com.arangodb.model.DocumentReplaceOptions;
+import com.arangodb.model.DocumentUpdateOptions;
+import com.arangodb.springframework.core.ArangoOperations.UpsertStrategy;
+
+/**
+ * Writes large amounts of documents in chunks of {@link BulkOptions#getChunkSize()}. The given values are consumed
+ * lazily, so a {@link java.util.stream.Stream} can be passed as {@code stream::iterator}. While a chunk is sent to
+ * the server, the next chunk is already converted.
+ * <p>
+ * Mapping events are emitted and the database fields of the entities are updated per chunk. A failed request aborts
+ * the operation with a {@link BulkWriteException}, which reports the chunks already written. Chunks which were not
+ * yet sent are skipped, chunks already sent are awaited.
+ * 
+ * @author Mark Vollmary
+ *
+ * @param <T>
+ *            The entity type representing the collection
+ */
+public interface BulkWriter<T> {
+
+	/**
+	 * Creates new documents from the given documents in chunks.
+	 * 
+	 * @param values
+	 *            The documents to create
+	 * @param options
+	 *            Additional options, can be null
+	 * @return summary of the operation
+	 * @throws DataAccessException
+	 */
+	BulkWriteResult insert(Iterable<? extends T> values, DocumentCreateOptions options) throws DataAccessException;
+
+	/**
+	 * Creates new documents from the given documents in chunks.
+	 * 
+	 * @param values
+	 *            The documents to create
+	 * @return summary of the operation
+	 * @throws DataAccessException
+	 */
+	BulkWriteResult insert(Iterable<? extends T> values) throws DataAccessException;
+
+	/**
+	 * Partially updates documents in chunks. The documents must contain the attribute {@code _key}.
+	 * 
+	 * @param values
+	 *            The documents to update
+	 * @param options
+	 *            Additional options, can be null
+	 * @return summary of the operation
+	 * @throws DataAccessException
+	 */
+	BulkWriteResult update(Iterable<? extends T> values, DocumentUpdateOptions options) throws DataAccessException;
+
+	/**
+	 * Partially updates documents in chunks. The documents must contain the attribute {@code _key}.
+	 * 
+	 * @param values
+	 *            The documents to update
+	 * @return summary of the operation
+	 * @throws DataAccessException
+	 */
+	BulkWriteResult update(Iterable<? extends T> values) throws DataAccessException;
+
+	/**
+	 * Replaces documents in chunks. The documents must contain the attribute {@code _key}.
+	 * 
+	 * @param values
+	 *            The documents to replace
+	 * @param options
+	 *            Additional options, can be null
+	 * @return summary of the operation
+	 * @throws DataAccessException
+	 */
+	BulkWriteResult replace(Iterable<? extends T> values, DocumentReplaceOptions options) throws DataAccessException;
+
+	/**
+	 * Replaces documents in chunks. The documents must contain the attribute {@code _key}.
+	 * 
+	 * @param values
+	 *            The documents to replace
+	 * @return summary of the operation
+	 * @throws DataAccessException
+	 */
+	BulkWriteResult replace(Iterable<? extends T> values) throws DataAccessException;
+
+	/**
+	 * Creates new documents from the given documents, unless there already exists a document matching the given
+	 * properties. In that case it updates or replaces the document. Every chunk is processed by a single AQL
+	 * {@code UPSERT} on the server, so no documents have to be read beforehand. To perform well, the match
+	 * properties should be covered by a persistent or hash index.
+	 * <p>
+	 * An error of a single document aborts the whole chunk and is thrown as {@link DataAccessException}.
+	 * 
+	 * @param values
+	 *            The documents to create, update or replace
+	 * @param strategy
+	 *            The strategy to use when a document already exists
+	 * @param matchProperties
+	 *            The top level properties which identify an existing document. Defaults to the id property.
+	 * @return summary of the operation
+	 * @throws DataAccessException
+	 */
+	BulkWriteResult upsert(Iterable<? extends T> values, UpsertStrategy strategy, String... matchProperties)
+			throws DataAccessException;
+
+	/**
+	 * Imports documents over the import endpoint of the collection in chunks, which are sent with a parallelism of
+	 * {@link BulkOptions#getParallelism()}. {@link com.arangodb.springframework.core.mapping.event.BeforeSaveEvent}s
+	 * are emitted, but no {@link com.arangodb.springframework.core.mapping.event.AfterSaveEvent}s as the import
+	 * endpoint does not report which documents were written.
+	 * <p>
+	 * If {@link BulkOptions#getUpdateDBFields()} is enabled, entities without a key get a generated key assigned before
+	 * they are sent, and {@code _key} and {@code _id} of the entities are set. The import endpoint does not report
+	 * revisions, so {@code _rev} is never updated.
+	 * 
+	 * @param values
+	 *            The documents to import
+	 * @param options
+	 *            Additional options, can be null
+	 * @return the summed up counts of all chunks
+	 * @throws DataAccessException
+	 */
+	DocumentImportEntity importDocuments(Iterable<? extends T> values, DocumentImportOptions options)
+			throws DataAccessException;
+
+}
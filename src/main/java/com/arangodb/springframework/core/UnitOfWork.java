@@ -0,0 +1,89 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2018 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.core;
+
+import org.springframework.dao.DataAccessException;
+
+/**
+ * Collects inserts, updates and deletes and writes them grouped per entity class with as few multi-document requests
+ * as possible. Repeated updates of the same document are coalesced, a delete discards pending updates of the same
+ * document. Per entity class the inserts are written first, then the updates and then the deletes.
+ * <p>
+ * The documents are converted when they are flushed, so changes to the registered entities until then are written as
+ * well. A unit of work is not thread-safe.
+ * 
+ * @author Mark Vollmary
+ *
+ */
+public interface UnitOfWork extends AutoCloseable {
+
+	/**
+	 * Registers the given entity to be created.
+	 * 
+	 * @param value
+	 *            The entity to create
+	 */
+	void insert(Object value);
+
+	/**
+	 * Registers the given entity to be partially updated. The entity must have an id.
+	 * 
+	 * @param value
+	 *            The entity to update
+	 */
+	void update(Object value);
+
+	/**
+	 * Registers the given entity to be deleted. The entity must have an id.
+	 * 
+	 * @param value
+	 *            The entity to delete
+	 */
+	void delete(Object value);
+
+	/**
+	 * Registers the document with the given id to be deleted.
+	 * 
+	 * @param id
+	 *            The id or key of the document
+	 * @param entityClass
+	 *            The entity class which represents the collection
+	 */
+	void delete(Object id, Class<?> entityClass);
+
+	/**
+	 * Writes all registered operations and clears the unit of work.
+	 * 
+	 * @return summary of the written documents
+	 * @throws DataAccessException
+	 */
+	BulkWriteResult flush() throws DataAccessException;
+
+	/**
+	 * Flushes the unit of work. If the unit of work is bound to a transaction, it is flushed before the commit of the
+	 * transaction instead.
+	 * 
+	 * @throws DataAccessException
+	 */
+	@Override
+	void close() throws DataAccessException;
+
+}
@@ -45,4 +45,24 @@ public interface ArangoConverter extends ArangoEntityReader, ArangoEntityWriter
 
 	String convertId(Object id);
 
+	/**
+	 * Marks an entity which was read with a projection ({@code fields} of
+	 * {@link com.arangodb.springframework.annotation.From} or {@link com.arangodb.springframework.annotation.To}), so
+	 * that it is not written. If the given value is a collection, every element is marked.
+	 * 
+	 * @param entity
+	 *            the projected entity or a collection of projected entities
+	 */
+	default void markProjected(final Object entity) {
+	}
+
+	/**
+	 * @param entity
+	 *            an entity
+	 * @return whether the entity was read with a projection and misses attributes of its document
+	 */
+	default boolean isProjected(final Object entity) {
+		return false;
+	}
+
 }
@@ -21,6 +21,8 @@
 package com.arangodb.springframework.core.convert;
 
 import java.lang.annotation.Annotation;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
 import java.lang.reflect.Array;
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -38,10 +40,13 @@ import java.util.Iterator;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 import javax.xml.bind.DatatypeConverter;
 
 import org.springframework.core.CollectionFactory;
+import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.core.convert.support.DefaultConversionService;
 import org.springframework.core.convert.support.GenericConversionService;
 import org.springframework.data.convert.CustomConversions;
@@ -67,6 +72,7 @@ import com.arangodb.springframework.annotation.From;
 import com.arangodb.springframework.annotation.Ref;
 import com.arangodb.springframework.annotation.Relations;
 import com.arangodb.springframework.annotation.To;
+import com.arangodb.springframework.core.convert.resolver.LazyLoadingCollection;
 import com.arangodb.springframework.core.convert.resolver.LazyLoadingProxy;
 import com.arangodb.springframework.core.convert.resolver.ReferenceResolver;
 import com.arangodb.springframework.core.convert.resolver.RelationResolver;
@@ -74,6 +80,9 @@ import com.arangodb.springframework.core.convert.resolver.ResolverFactory;
 import com.arangodb.springframework.core.mapping.ArangoPersistentEntity;
 import com.arangodb.springframework.core.mapping.ArangoPersistentProperty;
 import com.arangodb.springframework.core.mapping.ArangoSimpleTypes;
+import com.arangodb.springframework.core.mapping.FetchMode;
+import com.arangodb.springframework.core.mapping.FetchPlanContext;
+import com.arangodb.springframework.core.util.IdentityReference;
 import com.arangodb.springframework.core.util.MetadataUtils;
 import com.arangodb.velocypack.VPackBuilder;
 import com.arangodb.velocypack.VPackSlice;
@@ -100,6 +109,9 @@ public class DefaultArangoConverter implements ArangoConverter {
 	private final EntityInstantiators instantiators;
 	private final ResolverFactory resolverFactory;
 	private final ArangoTypeMapper typeMapper;
+	private final Map<Annotation, Annotation> toggledLazyAnnotations;
+	private final Map<IdentityReference, Boolean> projected;
+	private final ReferenceQueue<Object> projectedQueue;
 
 	public DefaultArangoConverter(
 		final MappingContext<? extends ArangoPersistentEntity<?>, ArangoPersistentProperty> context,
@@ -112,6 +124,9 @@ public class DefaultArangoConverter implements ArangoConverter {
 		conversionService = new DefaultConversionService();
 		conversions.registerConvertersIn(conversionService);
 		instantiators = new EntityInstantiators();
+		toggledLazyAnnotations = new ConcurrentHashMap<>();
+		projected = new ConcurrentHashMap<>();
+		projectedQueue = new ReferenceQueue<>();
 	}
 
 	@Override
@@ -189,12 +204,25 @@ public class DefaultArangoConverter implements ArangoConverter {
 					String.format("Can't read entity type %s from VPack type %s!", type, source.getType()));
 		}
 
+		final String id = source.get(_ID).isString() ? source.get(_ID).getAsString() : null;
+
+		final IdentityMap identityMap = id != null ? IdentityMap.current() : null;
+		if (identityMap != null) {
+			final Object known = identityMap.get(id, type.getType());
+			if (known != null) {
+				return known;
+			}
+		}
+
 		final EntityInstantiator instantiator = instantiators.getInstantiatorFor(entity);
 		final ParameterValueProvider<ArangoPersistentProperty> provider = getParameterProvider(entity, source);
 		final Object instance = instantiator.createInstance(entity, provider);
 		final PersistentPropertyAccessor accessor = entity.getPropertyAccessor(instance);
 
-		final String id = source.get(_ID).isString() ? source.get(_ID).getAsString() : null;
+		if (identityMap != null) {
+			// registered before reading the properties to resolve cyclic references
+			identityMap.put(id, instance);
+		}
 
 		entity.doWithProperties((final ArangoPersistentProperty property) -> {
 			if (!entity.isConstructorArgument(property)) {
@@ -232,27 +260,56 @@ public class DefaultArangoConverter implements ArangoConverter {
 
 		final Optional<Ref> ref = property.getRef();
 		if (ref.isPresent()) {
-			return readReference(source, property, ref.get()).orElse(null);
+			return readAssociation(property, ref.get(), a -> readReference(source, property, a));
 		}
 
 		final Optional<Relations> relations = property.getRelations();
 		if (relations.isPresent()) {
-			return readRelation(entity, parentId, source, property, relations.get()).orElse(null);
+			return readAssociation(property, relations.get(),
+				a -> readRelation(entity, parentId, source, property, a));
 		}
 
 		final Optional<From> from = property.getFrom();
 		if (from.isPresent()) {
-			return readRelation(entity, parentId, source, property, from.get()).orElse(null);
+			return readAssociation(property, from.get(), a -> readRelation(entity, parentId, source, property, a));
 		}
 
 		final Optional<To> to = property.getTo();
 		if (to.isPresent()) {
-			return readRelation(entity, parentId, source, property, to.get()).orElse(null);
+			return readAssociation(property, to.get(), a -> readRelation(entity, parentId, source, property, a));
 		}
 
 		return readInternal(property.getTypeInformation(), source);
 	}
 
+	/**
+	 * Reads an association according to its {@link FetchMode} within the active fetch plan. If the fetch mode
+	 * differs from the annotation, the association is resolved with a copy of the annotation with an adjusted
+	 * {@code lazy} attribute.
+	 */
+	private <A extends Annotation> Object readAssociation(
+		final ArangoPersistentProperty property,
+		final A annotation,
+		final Function<A, Optional<Object>> reader) {
+		final FetchMode mode = FetchPlanContext.getFetchMode(property);
+		if (mode == FetchMode.SKIP) {
+			return null;
+		}
+		return reader.apply(withLazy(annotation, mode == FetchMode.LAZY)).orElse(null);
+	}
+
+	@SuppressWarnings("unchecked")
+	private <A extends Annotation> A withLazy(final A annotation, final boolean lazy) {
+		if (Boolean.valueOf(lazy).equals(AnnotationUtils.getValue(annotation, "lazy"))) {
+			return annotation;
+		}
+		return (A) toggledLazyAnnotations.computeIfAbsent(annotation, a -> {
+			final Map<String, Object> attributes = AnnotationUtils.getAnnotationAttributes(a);
+			attributes.put("lazy", lazy);
+			return AnnotationUtils.synthesizeAnnotation(attributes, a.annotationType(), null);
+		});
+	}
+
 	private Object readMap(final TypeInformation<?> type, final VPackSlice source) {
 		if (!source.isObject()) {
 			throw new MappingException(
@@ -358,6 +415,18 @@ public class DefaultArangoConverter implements ArangoConverter {
 		final ArangoPersistentProperty property,
 		final A annotation) {
 
+		// fetch joined relations are embedded in the source
+		if (property.isCollectionLike() ? source.isArray() : source.isObject()) {
+			final Object value = readInternal(property.getTypeInformation(), source);
+			if (isProjection(annotation)) {
+				markProjected(value);
+			}
+			return Optional.ofNullable(value);
+		}
+		if (source.isNull()) {
+			return Optional.empty();
+		}
+
 		final Class<? extends Annotation> collectionType = entity.findAnnotation(Edge.class) != null ? Edge.class
 				: Document.class;
 		final Optional<RelationResolver<Annotation>> resolver = resolverFactory.getRelationResolver(annotation,
@@ -384,6 +453,29 @@ public class DefaultArangoConverter implements ArangoConverter {
 
 	}
 
+	private static boolean isProjection(final Annotation annotation) {
+		return (annotation instanceof From && ((From) annotation).fields().length > 0)
+				|| (annotation instanceof To && ((To) annotation).fields().length > 0);
+	}
+
+	@Override
+	public void markProjected(final Object entity) {
+		if (entity instanceof Collection) {
+			((Collection<?>) entity).forEach(this::markProjected);
+		} else if (entity != null) {
+			Reference<?> reference;
+			while ((reference = projectedQueue.poll()) != null) {
+				projected.remove(reference);
+			}
+			projected.put(new IdentityReference(entity, projectedQueue), Boolean.TRUE);
+		}
+	}
+
+	@Override
+	public boolean isProjected(final Object entity) {
+		return !projected.isEmpty() && projected.containsKey(new IdentityReference(entity, null));
+	}
+
 	private Object readSimple(final Class<?> type, final VPackSlice source) {
 		if (source.isNone() || source.isNull()) {
 			return null;
@@ -738,7 +830,14 @@ public class DefaultArangoConverter implements ArangoConverter {
 	private void writeReferences(final String attribute, final Object source, final VPackBuilder sink) {
 		sink.add(attribute, ValueType.ARRAY);
 
-		if (source.getClass().isArray()) {
+		if (source instanceof LazyLoadingCollection && !((LazyLoadingCollection) source).isResolved()) {
+			// write back the references without loading them
+			for (final String id : ((LazyLoadingCollection) source).getRefIds()) {
+				sink.add(id);
+			}
+		}
+
+		else if (source.getClass().isArray()) {
 			for (int i = 0; i < Array.getLength(source); ++i) {
 				final Object element = Array.get(source, i);
 				writeReference(null, element, sink);
@@ -0,0 +1,106 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2018 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.core.convert;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Entities which are materialized within a read scope, by their {@code _id}. While an identity map is bound to the
+ * current thread, every document is read into a single instance which is shared by all references to it. This also
+ * allows cyclic references to be resolved, since an entity is registered before its properties are read.
+ * <p>
+ * An identity map can be bound to several threads at once, e.g. by the background prefetch of lazy references. A
+ * document which is read by two threads at the same time can still be materialized twice, the instance registered
+ * last is returned by later reads.
+ * 
+ * @author Mark Vollmary
+ *
+ */
+public final class IdentityMap {
+
+	private static final ThreadLocal<IdentityMap> CURRENT = new ThreadLocal<>();
+
+	private final Map<String, Object> entities;
+
+	public IdentityMap() {
+		super();
+		entities = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * @return the identity map bound to the current thread or null
+	 */
+	public static IdentityMap current() {
+		return CURRENT.get();
+	}
+
+	/**
+	 * Executes the given action within the identity map bound to the current thread or, if there is none, within a
+	 * new identity map.
+	 * 
+	 * @param action
+	 *            the action to execute
+	 * @return the result of the action
+	 */
+	public static <T> T open(final Supplier<T> action) {
+		return CURRENT.get() != null ? action.get() : new IdentityMap().execute(action);
+	}
+
+	/**
+	 * @param id
+	 *            the {@code _id} of the document
+	 * @param type
+	 *            the requested type
+	 * @return the entity materialized for the given id or null if there is none of the requested type
+	 */
+	public Object get(final String id, final Class<?> type) {
+		final Object entity = entities.get(id);
+		return type.isInstance(entity) ? entity : null;
+	}
+
+	public void put(final String id, final Object entity) {
+		entities.put(id, entity);
+	}
+
+	/**
+	 * Executes the given action with this identity map being bound to the current thread.
+	 * 
+	 * @param action
+	 *            the action to execute
+	 * @return the result of the action
+	 */
+	public <T> T execute(final Supplier<T> action) {
+		final IdentityMap previous = CURRENT.get();
+		CURRENT.set(this);
+		try {
+			return action.get();
+		} finally {
+			if (previous != null) {
+				CURRENT.set(previous);
+			} else {
+				CURRENT.remove();
+			}
+		}
+	}
+
+}
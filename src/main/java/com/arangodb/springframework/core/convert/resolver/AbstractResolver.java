@@ -23,6 +23,8 @@ package com.arangodb.springframework.core.convert.resolver;
 import java.io.Serializable;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
 
 import org.aopalliance.intercept.MethodInvocation;
 import org.springframework.aop.framework.ProxyFactory;
@@ -31,12 +33,23 @@ import org.springframework.cglib.proxy.Enhancer;
 import org.springframework.cglib.proxy.Factory;
 import org.springframework.cglib.proxy.MethodProxy;
 import org.springframework.core.convert.ConversionService;
+import org.springframework.data.mapping.AssociationHandler;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.util.ClassTypeInformation;
 import org.springframework.data.util.TypeInformation;
 import org.springframework.lang.Nullable;
 import org.springframework.objenesis.ObjenesisStd;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.ReflectionUtils;
 
+import com.arangodb.springframework.annotation.From;
+import com.arangodb.springframework.annotation.Ref;
+import com.arangodb.springframework.annotation.Relations;
+import com.arangodb.springframework.annotation.To;
+import com.arangodb.springframework.core.mapping.ArangoPersistentEntity;
+import com.arangodb.springframework.core.mapping.ArangoPersistentProperty;
+
 /**
  * @author Mark Vollmary
  * @author Christian Lechner
@@ -56,13 +69,46 @@ public abstract class AbstractResolver<A extends Annotation> {
 		}
 	}
 
-	private final ObjenesisStd objenesis;
+	private static final ObjenesisStd OBJENESIS = new ObjenesisStd(true);
+	private static final Map<Class<?>, Class<?>> ENHANCED_TYPES = new ConcurrentReferenceHashMap<>();
+
 	private final ConversionService conversionService;
 
 	protected AbstractResolver(final ConversionService conversionService) {
 		super();
 		this.conversionService = conversionService;
-		this.objenesis = new ObjenesisStd(true);
+	}
+
+	/**
+	 * Generates the proxy classes for all types which are referenced lazily ({@code lazy = true}) by the persistent
+	 * entities of the given mapping context, so that they do not have to be generated on the first read.
+	 * 
+	 * @param context
+	 *            the mapping context
+	 */
+	public static void prepareProxyTypes(
+		final MappingContext<? extends ArangoPersistentEntity<?>, ArangoPersistentProperty> context) {
+		for (final ArangoPersistentEntity<?> entity : context.getPersistentEntities()) {
+			entity.doWithProperties((PropertyHandler<ArangoPersistentProperty>) AbstractResolver::prepareProxyType);
+			entity.doWithAssociations((AssociationHandler<ArangoPersistentProperty>) association -> AbstractResolver
+					.prepareProxyType(association.getInverse()));
+		}
+	}
+
+	private static void prepareProxyType(final ArangoPersistentProperty property) {
+		final boolean lazy = property.getRef().map(Ref::lazy).orElse(false)
+				|| property.getRelations().map(Relations::lazy).orElse(false)
+				|| property.getFrom().map(From::lazy).orElse(false) || property.getTo().map(To::lazy).orElse(false);
+		if (!lazy) {
+			return;
+		}
+		// lazy collections of @Ref are proxied per element, all other lazy properties as a whole
+		final TypeInformation<?> type = property.getRef().isPresent() && property.isCollectionLike()
+				? getNonNullComponentType(property.getTypeInformation())
+				: property.getTypeInformation();
+		if (!type.getType().isInterface() && !Modifier.isFinal(type.getType().getModifiers())) {
+			enhancedTypeFor(type.getType());
+		}
 	}
 
 	static interface ResolverCallback<A extends Annotation> {
@@ -87,18 +133,20 @@ public abstract class AbstractResolver<A extends Annotation> {
 			proxyFactory.addAdvice(interceptor);
 			return proxyFactory.getProxy();
 		} else {
-			final Factory factory = (Factory) objenesis.newInstance(enhancedTypeFor(type.getType()));
+			final Factory factory = (Factory) OBJENESIS.newInstance(enhancedTypeFor(type.getType()));
 			factory.setCallbacks(new Callback[] { interceptor });
 			return factory;
 		}
 	}
 
-	private Class<?> enhancedTypeFor(final Class<?> type) {
-		final Enhancer enhancer = new Enhancer();
-		enhancer.setSuperclass(type);
-		enhancer.setCallbackType(org.springframework.cglib.proxy.MethodInterceptor.class);
-		enhancer.setInterfaces(new Class[] { LazyLoadingProxy.class });
-		return enhancer.createClass();
+	private static Class<?> enhancedTypeFor(final Class<?> type) {
+		return ENHANCED_TYPES.computeIfAbsent(type, t -> {
+			final Enhancer enhancer = new Enhancer();
+			enhancer.setSuperclass(t);
+			enhancer.setCallbackType(org.springframework.cglib.proxy.MethodInterceptor.class);
+			enhancer.setInterfaces(new Class[] { LazyLoadingProxy.class });
+			return enhancer.createClass();
+		});
 	}
 
 	static class ProxyInterceptor<A extends Annotation> implements Serializable,
@@ -26,6 +26,8 @@ import com.arangodb.ArangoCursor;
 import com.arangodb.model.AqlQueryOptions;
 import com.arangodb.springframework.annotation.From;
 import com.arangodb.springframework.core.ArangoOperations;
+import com.arangodb.springframework.core.util.AqlUtils;
+import com.arangodb.springframework.core.util.RelationJoins;
 import com.arangodb.util.MapBuilder;
 
 /**
@@ -44,26 +46,37 @@ public class DocumentFromResolver extends AbstractResolver<From> implements Rela
 
 	@Override
 	public Object resolveOne(final String id, final TypeInformation<?> type, final From annotation) {
-		return annotation.lazy() ? proxy(id, type, annotation, (i, t, a) -> _resolveOne(i, t))
-				: _resolveOne(id, type);
+		return annotation.lazy() ? proxy(id, type, annotation, (i, t, a) -> _resolveOne(i, t, a))
+				: _resolveOne(id, type, annotation);
 	}
 
-	private Object _resolveOne(final String id, final TypeInformation<?> type) {
-		return _resolve(id, type.getType(), true).first();
+	private Object _resolveOne(final String id, final TypeInformation<?> type, final From annotation) {
+		return markProjected(_resolve(id, type.getType(), annotation, 1).first(), annotation.fields());
 	}
 
 	@Override
 	public Object resolveMultiple(final String id, final TypeInformation<?> type, final From annotation) {
-		return annotation.lazy() ? proxy(id, type, annotation, (i, t, a) -> _resolveMultiple(i, t))
-				: _resolveMultiple(id, type);
+		return annotation.lazy() ? proxy(id, type, annotation, (i, t, a) -> _resolveMultiple(i, t, a))
+				: _resolveMultiple(id, type, annotation);
 	}
 
-	private Object _resolveMultiple(final String id, final TypeInformation<?> type) {
-		return _resolve(id, getNonNullComponentType(type).getType(), false).asListRemaining();
+	private Object _resolveMultiple(final String id, final TypeInformation<?> type, final From annotation) {
+		return markProjected(
+			_resolve(id, getNonNullComponentType(type).getType(), annotation, annotation.limit()).asListRemaining(),
+			annotation.fields());
 	}
 
-	private ArangoCursor<?> _resolve(final String id, final Class<?> type, final boolean limit) {
-		final String query = String.format("FOR e IN @@edge FILTER e._from == @id %s RETURN e", limit ? "LIMIT 1" : "");
+	private Object markProjected(final Object value, final String[] fields) {
+		if (fields.length > 0) {
+			template.getConverter().markProjected(value);
+		}
+		return value;
+	}
+
+	private ArangoCursor<?> _resolve(final String id, final Class<?> type, final From annotation, final int limit) {
+		final String query = String.format("FOR e IN @@edge FILTER e._from == @id %s",
+			AqlUtils.buildEdgeReturnClause("e", annotation.sort(), limit, annotation.fields(),
+				RelationJoins.of(template.getConverter().getMappingContext(), type, "e")));
 		return template.query(query, new MapBuilder().put("@edge", type).put("id", id).get(), new AqlQueryOptions(),
 			type);
 	}
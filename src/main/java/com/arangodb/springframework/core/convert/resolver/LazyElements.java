@@ -0,0 +1,74 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2018 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.core.convert.resolver;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Holds the reference ids of a {@link LazyLoadingCollection} and loads the referenced entities once.
+ * 
+ * @author Mark Vollmary
+ *
+ * @param <C>
+ *            the type of the collection holding the loaded entities
+ */
+class LazyElements<C extends Collection<?>> {
+
+	private final Collection<String> ids;
+	private final Function<Collection<String>, C> loader;
+	private volatile C elements;
+
+	public LazyElements(final Collection<String> ids, final Function<Collection<String>, C> loader) {
+		super();
+		this.ids = Collections.unmodifiableCollection(ids);
+		this.loader = loader;
+	}
+
+	public Collection<String> getIds() {
+		return ids;
+	}
+
+	public boolean isResolved() {
+		return elements != null;
+	}
+
+	public C get() {
+		C result = elements;
+		if (result == null) {
+			synchronized (this) {
+				result = elements;
+				if (result == null) {
+					result = loader.apply(ids);
+					elements = result;
+				}
+			}
+		}
+		return result;
+	}
+
+	public String toString(final Supplier<String> resolved) {
+		return isResolved() ? resolved.get() : LazyLoadingCollection.class.getSimpleName() + " " + ids;
+	}
+
+}
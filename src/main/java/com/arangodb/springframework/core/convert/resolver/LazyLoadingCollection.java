@@ -0,0 +1,46 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2018 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.core.convert.resolver;
+
+import java.util.Collection;
+
+/**
+ * Allows identification of lazily loaded collections of references. The ids of the referenced documents are
+ * available without loading them, all documents are loaded with a single request on first access to the contents.
+ * 
+ * @author Mark Vollmary
+ *
+ */
+public interface LazyLoadingCollection {
+
+	/**
+	 * Returns the reference ids of this collection, which are the _id of the referenced entities.
+	 *
+	 * @return the reference ids
+	 */
+	Collection<String> getRefIds();
+
+	/**
+	 * @return whether the referenced entities are already loaded
+	 */
+	boolean isResolved();
+
+}
@@ -0,0 +1,87 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2018 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.core.convert.resolver;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * A {@link Set} of references which are loaded with a single request on first access to the contents.
+ * 
+ * @author Mark Vollmary
+ *
+ * @param <E>
+ *            the type of the referenced entities
+ */
+class LazyLoadingSet<E> extends AbstractSet<E> implements LazyLoadingCollection {
+
+	private final LazyElements<Set<E>> elements;
+
+	/**
+	 * @param ids
+	 *            the reference ids
+	 * @param loader
+	 *            loads the referenced entities into a modifiable set
+	 */
+	public LazyLoadingSet(final Collection<String> ids, final Function<Collection<String>, Set<E>> loader) {
+		super();
+		elements = new LazyElements<>(ids, loader);
+	}
+
+	@Override
+	public Collection<String> getRefIds() {
+		return elements.getIds();
+	}
+
+	@Override
+	public boolean isResolved() {
+		return elements.isResolved();
+	}
+
+	@Override
+	public boolean add(final E element) {
+		return elements.get().add(element);
+	}
+
+	@Override
+	public boolean contains(final Object o) {
+		return elements.get().contains(o);
+	}
+
+	@Override
+	public int size() {
+		return elements.get().size();
+	}
+
+	@Override
+	public Iterator<E> iterator() {
+		return elements.get().iterator();
+	}
+
+	@Override
+	public String toString() {
+		return elements.toString(super::toString);
+	}
+
+}
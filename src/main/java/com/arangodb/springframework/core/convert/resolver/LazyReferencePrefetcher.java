@@ -0,0 +1,176 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2018 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.core.convert.resolver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.arangodb.springframework.core.ArangoOperations;
+import com.arangodb.springframework.core.convert.IdentityMap;
+import com.arangodb.springframework.core.mapping.FetchPlanContext;
+
+/**
+ * Loads lazy references speculatively in the background. The ids of lazy references are queued when the referencing
+ * entity is read and are loaded on the given executor with one {@link ArangoOperations#find(Iterable, Class)} per
+ * referenced type for all ids queued in the meantime. The references are loaded within the fetch plan and the
+ * identity map of the thread which read the referencing entity. A lazy proxy completes from the prefetched result
+ * and only loads synchronously if the prefetch failed or a referenced document was not found.
+ * 
+ * @author Mark Vollmary
+ *
+ */
+public class LazyReferencePrefetcher {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(LazyReferencePrefetcher.class);
+
+	private static class Request {
+		private final Collection<String> ids;
+		private final Class<?> type;
+		private final String fetchPlan;
+		private final IdentityMap identityMap;
+		private final CompletableFuture<List<Object>> future;
+
+		public Request(final Collection<String> ids, final Class<?> type) {
+			super();
+			this.ids = ids;
+			this.type = type;
+			fetchPlan = FetchPlanContext.current();
+			identityMap = IdentityMap.current();
+			future = new CompletableFuture<>();
+		}
+
+		public List<Object> getGroup() {
+			return Arrays.asList(type, fetchPlan, identityMap);
+		}
+	}
+
+	private final ArangoOperations template;
+	private final Executor executor;
+	private final Queue<Request> pending;
+	private final AtomicBoolean scheduled;
+
+	public LazyReferencePrefetcher(final ArangoOperations template, final Executor executor) {
+		super();
+		this.template = template;
+		this.executor = executor;
+		pending = new ConcurrentLinkedQueue<>();
+		scheduled = new AtomicBoolean(false);
+	}
+
+	/**
+	 * Queues the given ids to be loaded in the background.
+	 * 
+	 * @param ids
+	 *            the {@code _id} of the referenced documents
+	 * @param type
+	 *            the type of the referenced entities
+	 * @return a future completing with the loaded entities in the order of the given ids, containing {@code null}
+	 *         for every document which was not found
+	 */
+	public CompletableFuture<List<Object>> prefetch(final Collection<String> ids, final Class<?> type) {
+		final Request request = new Request(ids, type);
+		pending.add(request);
+		if (scheduled.compareAndSet(false, true)) {
+			try {
+				executor.execute(this::loadPending);
+			} catch (final RejectedExecutionException e) {
+				scheduled.set(false);
+				loadPendingFailed(e);
+			}
+		}
+		return request.future;
+	}
+
+	private void loadPending() {
+		scheduled.set(false);
+		final Map<List<Object>, List<Request>> requestsByGroup = new LinkedHashMap<>();
+		for (Request request = pending.poll(); request != null; request = pending.poll()) {
+			requestsByGroup.computeIfAbsent(request.getGroup(), g -> new ArrayList<>()).add(request);
+		}
+		requestsByGroup.values().forEach(this::load);
+	}
+
+	private void loadPendingFailed(final Throwable e) {
+		for (Request request = pending.poll(); request != null; request = pending.poll()) {
+			request.future.completeExceptionally(e);
+		}
+	}
+
+	private void load(final List<Request> requests) {
+		// all requests of a group share the type, the fetch plan and the identity map
+		final Request group = requests.get(0);
+		final Set<String> ids = new LinkedHashSet<>();
+		requests.forEach(request -> ids.addAll(request.ids));
+		final List<Object> loaded;
+		try {
+			loaded = FetchPlanContext.execute(group.fetchPlan, () -> group.identityMap != null
+					? group.identityMap.execute(() -> find(ids, group.type)) : find(ids, group.type));
+		} catch (final RuntimeException e) {
+			LOGGER.debug("Prefetch of lazy references failed", e);
+			requests.forEach(request -> request.future.completeExceptionally(e));
+			return;
+		}
+		final Map<String, Object> entities = new LinkedHashMap<>();
+		int i = 0;
+		for (final String id : ids) {
+			entities.put(id, loaded.get(i++));
+		}
+		for (final Request request : requests) {
+			final List<Object> result = new ArrayList<>(request.ids.size());
+			request.ids.forEach(id -> result.add(entities.get(id)));
+			request.future.complete(result);
+		}
+	}
+
+	private List<Object> find(final Collection<String> ids, final Class<?> type) {
+		return RefResolver.assign(template, ids, template.find(ids, type));
+	}
+
+	/**
+	 * @param future
+	 *            a future returned by {@link #prefetch(Collection, Class)}
+	 * @return the prefetched entities, containing {@code null} for documents which were not found, or {@code null} if
+	 *         the prefetch failed
+	 */
+	static List<Object> getPrefetched(final CompletableFuture<List<Object>> future) {
+		try {
+			return future.join();
+		} catch (final RuntimeException e) {
+			return null;
+		}
+	}
+
+}
@@ -20,13 +20,22 @@
 
 package com.arangodb.springframework.core.convert.resolver;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 import org.springframework.data.util.TypeInformation;
 
 import com.arangodb.springframework.annotation.Ref;
 import com.arangodb.springframework.core.ArangoOperations;
+import com.arangodb.springframework.core.mapping.ArangoPersistentEntity;
+import com.arangodb.springframework.core.util.MetadataUtils;
 
 /**
  * @author Mark Vollmary
@@ -37,21 +46,156 @@ public class RefResolver extends AbstractResolver<Ref>
 		implements ReferenceResolver<Ref>, AbstractResolver.ResolverCallback<Ref> {
 
 	private final ArangoOperations template;
+	private final LazyReferencePrefetcher prefetcher;
 
 	public RefResolver(final ArangoOperations template) {
+		this(template, null);
+	}
+
+	/**
+	 * @param template
+	 *            the template to load references with
+	 * @param prefetcher
+	 *            loads lazy references in the background or null to load them on first access
+	 */
+	public RefResolver(final ArangoOperations template, final LazyReferencePrefetcher prefetcher) {
 		super(template.getConverter().getConversionService());
 		this.template = template;
+		this.prefetcher = prefetcher;
 	}
 
 	@Override
 	public Object resolveOne(final String id, final TypeInformation<?> type, final Ref annotation) {
-		return annotation.lazy() ? proxy(id, type, annotation, this) : resolve(id, type, annotation);
+		if (!annotation.lazy()) {
+			return resolve(id, type, annotation);
+		}
+		if (prefetcher == null) {
+			return proxy(id, type, annotation, this);
+		}
+		final CompletableFuture<List<Object>> prefetched = prefetcher.prefetch(Collections.singletonList(id),
+			type.getType());
+		return proxy(id, type, annotation, (i, t, a) -> {
+			final List<Object> entities = LazyReferencePrefetcher.getPrefetched(prefetched);
+			return entities != null && entities.get(0) != null ? entities.get(0) : resolve(i, t, a);
+		});
 	}
 
 	@Override
 	public Object resolveMultiple(final Collection<String> ids, final TypeInformation<?> type, final Ref annotation) {
-		return ids.stream().map(id -> resolveOne(id, getNonNullComponentType(type), annotation))
-				.collect(Collectors.toList());
+		final TypeInformation<?> componentType = getNonNullComponentType(type);
+		if (!annotation.lazy()) {
+			return resolveAll(ids, componentType, new ArrayList<>(ids.size()));
+		}
+		// a single lazy collection loading all references at once, if it fits the property type
+		if (type.getType().isAssignableFrom(LazyLoadingList.class)) {
+			final CompletableFuture<List<Object>> prefetched = prefetch(ids, componentType);
+			return new LazyLoadingList<>(ids,
+				i -> resolveAll(i, componentType, prefetched, new ArrayList<>(i.size())));
+		}
+		if (type.getType().isAssignableFrom(LazyLoadingSet.class)) {
+			final CompletableFuture<List<Object>> prefetched = prefetch(ids, componentType);
+			return new LazyLoadingSet<>(ids, i -> resolveAll(i, componentType, prefetched, new LinkedHashSet<>()));
+		}
+		return ids.stream().map(id -> resolveOne(id, componentType, annotation)).collect(Collectors.toList());
+	}
+
+	private CompletableFuture<List<Object>> prefetch(
+		final Collection<String> ids,
+		final TypeInformation<?> componentType) {
+		return prefetcher != null ? prefetcher.prefetch(ids, componentType.getType()) : null;
+	}
+
+	private <C extends Collection<Object>> C resolveAll(
+		final Collection<String> ids,
+		final TypeInformation<?> componentType,
+		final CompletableFuture<List<Object>> prefetched,
+		final C resolved) {
+		final List<Object> entities = prefetched != null ? LazyReferencePrefetcher.getPrefetched(prefetched) : null;
+		if (entities == null) {
+			return resolveAll(ids, componentType, resolved);
+		}
+		// only the documents the prefetch did not find are read again, which fails if they do not exist
+		final List<String> missing = new ArrayList<>();
+		final Iterator<Object> iterator = entities.iterator();
+		for (final String id : ids) {
+			if (iterator.next() == null) {
+				missing.add(id);
+			}
+		}
+		if (missing.isEmpty()) {
+			resolved.addAll(entities);
+			return resolved;
+		}
+		final Iterator<Object> loaded = resolveAll(missing, componentType, new ArrayList<>(missing.size())).iterator();
+		for (final Object entity : entities) {
+			resolved.add(entity != null ? entity : loaded.next());
+		}
+		return resolved;
+	}
+
+	private <C extends Collection<Object>> C resolveAll(
+		final Collection<String> ids,
+		final TypeInformation<?> componentType,
+		final C resolved) {
+		final List<Object> entities = assign(template, ids, template.find(ids, componentType.getType()));
+		final List<String> missing = new ArrayList<>();
+		final Iterator<Object> iterator = entities.iterator();
+		for (final String id : ids) {
+			if (iterator.next() == null) {
+				missing.add(id);
+			}
+		}
+		if (!missing.isEmpty()) {
+			throw new NoSuchElementException(String.format("Referenced documents %s not found", missing));
+		}
+		resolved.addAll(entities);
+		return resolved;
+	}
+
+	/**
+	 * Assigns the entities read with {@link ArangoOperations#find(Iterable, Class)}, which omits documents which do
+	 * not exist, to the ids they were read for.
+	 * 
+	 * @param template
+	 *            the template the entities were read with
+	 * @param ids
+	 *            the ids the entities were read for
+	 * @param loaded
+	 *            the read entities in the order of the ids
+	 * @return the entities in the order of the ids, containing {@code null} for every document which was not found
+	 */
+	static List<Object> assign(final ArangoOperations template, final Collection<String> ids, final Iterable<?> loaded) {
+		final List<Object> found = new ArrayList<>(ids.size());
+		loaded.forEach(found::add);
+		if (found.size() == ids.size()) {
+			return found;
+		}
+		// the entities are in the order of the ids, so the missing documents are detected by the keys
+		final List<Object> entities = new ArrayList<>(ids.size());
+		int next = 0;
+		for (final String id : ids) {
+			if (next < found.size()
+					&& MetadataUtils.determineDocumentKeyFromId(id).equals(getKey(template, found.get(next)))) {
+				entities.add(found.get(next++));
+			} else {
+				entities.add(null);
+			}
+		}
+		return entities;
+	}
+
+	private static String getKey(final ArangoOperations template, final Object entity) {
+		final ArangoPersistentEntity<?> persistentEntity = template.getConverter().getMappingContext()
+				.getPersistentEntity(entity.getClass());
+		if (persistentEntity == null) {
+			return null;
+		}
+		final Object id = persistentEntity.getArangoIdAccessor(entity).getIdentifier();
+		if (id != null) {
+			return MetadataUtils.determineDocumentKeyFromId(id.toString());
+		}
+		final Object key = persistentEntity.getIdentifierAccessor(entity).getIdentifier();
+		return key != null ? key.toString() : null;
 	}
 
 	@Override
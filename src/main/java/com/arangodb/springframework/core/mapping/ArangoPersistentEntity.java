@@ -72,4 +72,14 @@ public interface ArangoPersistentEntity<T>
 
 	IdentifierAccessor getArangoIdAccessor(Object bean);
 
+	/**
+	 * @param fetchPlan
+	 *            the name of a fetch plan
+	 * @param property
+	 *            an association property of this entity
+	 * @return the fetch mode of the property within the given fetch plan or null if the entity has no such plan or the
+	 *         plan does not cover the property
+	 */
+	FetchMode getFetchMode(String fetchPlan, ArangoPersistentProperty property);
+
 }
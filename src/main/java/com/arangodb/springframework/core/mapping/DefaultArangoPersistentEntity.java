@@ -37,11 +37,15 @@ import org.springframework.context.expression.BeanFactoryAccessor;
 import org.springframework.context.expression.BeanFactoryResolver;
 import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.data.mapping.IdentifierAccessor;
+import org.springframework.data.mapping.MappingException;
 import org.springframework.data.mapping.TargetAwareIdentifierAccessor;
 import org.springframework.data.mapping.model.BasicPersistentEntity;
 import org.springframework.data.util.TypeInformation;
 import org.springframework.expression.Expression;
 import org.springframework.expression.ParserContext;
+import org.springframework.expression.common.LiteralExpression;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.lang.Nullable;
@@ -51,6 +55,7 @@ import com.arangodb.entity.CollectionType;
 import com.arangodb.model.CollectionCreateOptions;
 import com.arangodb.springframework.annotation.Document;
 import com.arangodb.springframework.annotation.Edge;
+import com.arangodb.springframework.annotation.FetchPlan;
 import com.arangodb.springframework.annotation.FulltextIndex;
 import com.arangodb.springframework.annotation.FulltextIndexes;
 import com.arangodb.springframework.annotation.GeoIndex;
@@ -70,7 +75,8 @@ import com.arangodb.springframework.annotation.SkiplistIndexes;
 public class DefaultArangoPersistentEntity<T> extends BasicPersistentEntity<T, ArangoPersistentProperty>
 		implements ArangoPersistentEntity<T> {
 
-	private static final SpelExpressionParser PARSER = new SpelExpressionParser();
+	private static final SpelExpressionParser PARSER = new SpelExpressionParser(
+			new SpelParserConfiguration(SpelCompilerMode.MIXED, null));
 
 	private String collection;
 	private final Expression expression;
@@ -88,6 +94,8 @@ public class DefaultArangoPersistentEntity<T> extends BasicPersistentEntity<T, A
 
 	private final Map<Class<? extends Annotation>, Set<? extends Annotation>> repeatableAnnotationCache;
 
+	private Map<String, Map<String, FetchMode>> fetchPlans;
+
 	public DefaultArangoPersistentEntity(final TypeInformation<T> information) {
 		super(information);
 		collection = StringUtils.uncapitalize(information.getType().getSimpleName());
@@ -109,7 +117,9 @@ public class DefaultArangoPersistentEntity<T> extends BasicPersistentEntity<T, A
 		} else {
 			collectionOptions = new CollectionCreateOptions().type(CollectionType.DOCUMENT);
 		}
-		expression = PARSER.parseExpression(collection, ParserContext.TEMPLATE_EXPRESSION);
+		final Expression parsed = PARSER.parseExpression(collection, ParserContext.TEMPLATE_EXPRESSION);
+		// SpEL is only evaluated for a collection name with an expression, e.g. for multi-tenancy
+		expression = parsed instanceof LiteralExpression ? null : parsed;
 	}
 
 	private static CollectionCreateOptions createCollectionOptions(final Document annotation) {
@@ -199,6 +209,54 @@ public class DefaultArangoPersistentEntity<T> extends BasicPersistentEntity<T, A
 		property.getFulltextIndexed().ifPresent(i -> fulltextIndexedProperties.add(property));
 	}
 
+	@Override
+	public void verify() {
+		super.verify();
+		fetchPlans = createFetchPlans();
+	}
+
+	private Map<String, Map<String, FetchMode>> createFetchPlans() {
+		final Map<String, Map<String, FetchMode>> plans = new HashMap<>();
+		for (final FetchPlan plan : findAnnotations(FetchPlan.class)) {
+			final Map<String, FetchMode> modes = new HashMap<>();
+			addFetchModes(plan, plan.eager(), FetchMode.EAGER, modes);
+			addFetchModes(plan, plan.join(), FetchMode.JOIN, modes);
+			addFetchModes(plan, plan.lazy(), FetchMode.LAZY, modes);
+			addFetchModes(plan, plan.skip(), FetchMode.SKIP, modes);
+			if (plans.put(plan.name(), modes) != null) {
+				throw new MappingException(
+						String.format("Fetch plan %s is defined multiple times on %s!", plan.name(), getType()));
+			}
+		}
+		return plans;
+	}
+
+	private void addFetchModes(
+		final FetchPlan plan,
+		final String[] properties,
+		final FetchMode mode,
+		final Map<String, FetchMode> modes) {
+		for (final String name : properties) {
+			final ArangoPersistentProperty property = getPersistentProperty(name);
+			if (property == null || !(property.getRef().isPresent() || property.getRelations().isPresent()
+					|| property.getFrom().isPresent() || property.getTo().isPresent())) {
+				throw new MappingException(String.format(
+					"Property %s of fetch plan %s is no @Ref, @Relations, @From or @To property of %s!", name,
+					plan.name(), getType()));
+			}
+			if (modes.put(name, mode) != null) {
+				throw new MappingException(String.format("Property %s is listed multiple times in fetch plan %s of %s!",
+					name, plan.name(), getType()));
+			}
+		}
+	}
+
+	@Override
+	public FetchMode getFetchMode(final String fetchPlan, final ArangoPersistentProperty property) {
+		final Map<String, FetchMode> modes = fetchPlans != null ? fetchPlans.get(fetchPlan) : null;
+		return modes != null ? modes.get(property.getName()) : null;
+	}
+
 	@Override
 	public Optional<ArangoPersistentProperty> getArangoIdProperty() {
 		return Optional.ofNullable(arangoIdProperty);
@@ -0,0 +1,52 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2018 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.core.mapping;
+
+/**
+ * Defines how an association ({@code @Ref}, {@code @Relations}, {@code @From}, {@code @To}) is loaded.
+ * 
+ * @author Mark Vollmary
+ *
+ */
+public enum FetchMode {
+
+	/**
+	 * The association is resolved when the entity is read.
+	 */
+	EAGER,
+
+	/**
+	 * The association is fetch joined into the queries of {@code findAll} and derived query methods and resolved
+	 * eagerly otherwise.
+	 */
+	JOIN,
+
+	/**
+	 * The association is resolved on first access through a proxy.
+	 */
+	LAZY,
+
+	/**
+	 * The association is not loaded at all.
+	 */
+	SKIP
+
+}
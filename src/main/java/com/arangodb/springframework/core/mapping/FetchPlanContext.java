@@ -0,0 +1,124 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2018 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.core.mapping;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.springframework.data.mapping.PersistentEntity;
+
+import com.arangodb.springframework.annotation.From;
+import com.arangodb.springframework.annotation.Ref;
+import com.arangodb.springframework.annotation.Relations;
+import com.arangodb.springframework.annotation.To;
+
+/**
+ * Holds the name of the fetch plan ({@link com.arangodb.springframework.annotation.FetchPlan}) which is active for the
+ * current thread and determines the {@link FetchMode} of associations.
+ * 
+ * @author Mark Vollmary
+ *
+ */
+public final class FetchPlanContext {
+
+	private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+	private FetchPlanContext() {
+		super();
+	}
+
+	/**
+	 * @return the name of the active fetch plan or null if no fetch plan is active
+	 */
+	public static String current() {
+		return CURRENT.get();
+	}
+
+	/**
+	 * Executes the given action with the given fetch plan being active.
+	 * 
+	 * @param fetchPlan
+	 *            the name of the fetch plan or null to execute the action without fetch plan
+	 * @param action
+	 *            the action to execute
+	 * @return the result of the action
+	 */
+	public static <T> T execute(final String fetchPlan, final Supplier<T> action) {
+		final String previous = CURRENT.get();
+		if (fetchPlan != null) {
+			CURRENT.set(fetchPlan);
+		} else {
+			CURRENT.remove();
+		}
+		try {
+			return action.get();
+		} finally {
+			if (previous != null) {
+				CURRENT.set(previous);
+			} else {
+				CURRENT.remove();
+			}
+		}
+	}
+
+	/**
+	 * @param property
+	 *            an association property ({@code @Ref}, {@code @Relations}, {@code @From}, {@code @To})
+	 * @return the fetch mode of the property within the active fetch plan or, if the plan does not cover the property,
+	 *         as defined by its annotation
+	 */
+	public static FetchMode getFetchMode(final ArangoPersistentProperty property) {
+		final String fetchPlan = CURRENT.get();
+		final PersistentEntity<?, ArangoPersistentProperty> owner = property.getOwner();
+		if (fetchPlan != null && owner instanceof ArangoPersistentEntity) {
+			final FetchMode mode = ((ArangoPersistentEntity<?>) owner).getFetchMode(fetchPlan, property);
+			if (mode != null) {
+				return mode;
+			}
+		}
+		return getDefaultFetchMode(property);
+	}
+
+	private static FetchMode getDefaultFetchMode(final ArangoPersistentProperty property) {
+		final Optional<Ref> ref = property.getRef();
+		if (ref.isPresent()) {
+			return ref.get().lazy() ? FetchMode.LAZY : FetchMode.EAGER;
+		}
+		final Optional<Relations> relations = property.getRelations();
+		if (relations.isPresent()) {
+			return getDefaultFetchMode(relations.get().lazy(), relations.get().join());
+		}
+		final Optional<From> from = property.getFrom();
+		if (from.isPresent()) {
+			return getDefaultFetchMode(from.get().lazy(), from.get().join());
+		}
+		final Optional<To> to = property.getTo();
+		if (to.isPresent()) {
+			return getDefaultFetchMode(to.get().lazy(), to.get().join());
+		}
+		return FetchMode.EAGER;
+	}
+
+	private static FetchMode getDefaultFetchMode(final boolean lazy, final boolean join) {
+		return lazy ? FetchMode.LAZY : join ? FetchMode.JOIN : FetchMode.EAGER;
+	}
+
+}
@@ -37,14 +37,36 @@ class ArangoCursorInitializer implements com.arangodb.util.ArangoCursorInitializ
 
 	private final ArangoConverter converter;
 	private final ApplicationEventPublisher eventPublisher;
+	private final DirtyTracker dirtyTracker;
+	private final ReferencePrefetcher referencePrefetcher;
+	private final PartialLoadTracker partialLoads;
 
 	public ArangoCursorInitializer(final ArangoConverter converter) {
 		this(converter, null);
 	}
 
 	public ArangoCursorInitializer(final ArangoConverter converter, final ApplicationEventPublisher eventPublisher) {
+		this(converter, eventPublisher, null);
+	}
+
+	public ArangoCursorInitializer(final ArangoConverter converter, final ApplicationEventPublisher eventPublisher,
+		final DirtyTracker dirtyTracker) {
+		this(converter, eventPublisher, dirtyTracker, null);
+	}
+
+	public ArangoCursorInitializer(final ArangoConverter converter, final ApplicationEventPublisher eventPublisher,
+		final DirtyTracker dirtyTracker, final ReferencePrefetcher referencePrefetcher) {
+		this(converter, eventPublisher, dirtyTracker, referencePrefetcher, null);
+	}
+
+	public ArangoCursorInitializer(final ArangoConverter converter, final ApplicationEventPublisher eventPublisher,
+		final DirtyTracker dirtyTracker, final ReferencePrefetcher referencePrefetcher,
+		final PartialLoadTracker partialLoads) {
 		this.converter = converter;
 		this.eventPublisher = eventPublisher;
+		this.dirtyTracker = dirtyTracker;
+		this.referencePrefetcher = referencePrefetcher;
+		this.partialLoads = partialLoads;
 	}
 
 	@Override
@@ -53,7 +75,8 @@ class ArangoCursorInitializer implements com.arangodb.util.ArangoCursorInitializ
 		final ArangoCursorExecute execute,
 		final Class<T> type,
 		final CursorEntity result) {
-		return new ArangoExtCursor<>(db, execute, type, result, converter, eventPublisher);
+		return new ArangoExtCursor<>(db, execute, type, result, converter, eventPublisher, dirtyTracker,
+				referencePrefetcher, partialLoads);
 	}
 
 }
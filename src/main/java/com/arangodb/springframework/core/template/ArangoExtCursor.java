@@ -39,11 +39,15 @@ class ArangoExtCursor<T> extends ArangoCursorImpl<T> {
 
 	protected ArangoExtCursor(final InternalArangoDatabase<?, ?> db, final ArangoCursorExecute execute,
 		final Class<T> type, final CursorEntity result, final ArangoConverter converter,
-		final ApplicationEventPublisher eventPublisher) {
+		final ApplicationEventPublisher eventPublisher, final DirtyTracker dirtyTracker,
+		final ReferencePrefetcher referencePrefetcher, final PartialLoadTracker partialLoads) {
 		super(db, execute, type, result);
 		final ArangoExtCursorIterator<?> it = (ArangoExtCursorIterator<?>) iterator;
 		it.setConverter(converter);
 		it.setEventPublisher(eventPublisher);
+		it.setDirtyTracker(dirtyTracker);
+		it.setReferencePrefetcher(referencePrefetcher);
+		it.setPartialLoads(partialLoads);
 	}
 
 	@Override
@@ -28,6 +28,8 @@ import com.arangodb.internal.ArangoCursorExecute;
 import com.arangodb.internal.InternalArangoDatabase;
 import com.arangodb.internal.cursor.ArangoCursorIterator;
 import com.arangodb.springframework.core.convert.ArangoConverter;
+import com.arangodb.springframework.core.convert.IdentityMap;
+import com.arangodb.springframework.core.mapping.FetchPlanContext;
 import com.arangodb.springframework.core.mapping.event.AfterLoadEvent;
 import com.arangodb.springframework.core.mapping.event.ArangoMappingEvent;
 import com.arangodb.velocypack.VPackSlice;
@@ -41,10 +43,21 @@ class ArangoExtCursorIterator<T> extends ArangoCursorIterator<T> {
 
 	private ArangoConverter converter;
 	private ApplicationEventPublisher eventPublisher;
+	private DirtyTracker dirtyTracker;
+	private ReferencePrefetcher referencePrefetcher;
+	private PartialLoadTracker partialLoads;
+	private CursorEntity batch;
+	private ReadContext readContext;
+	private final String fetchPlan;
+	private final IdentityMap outerIdentityMap;
+	private IdentityMap identityMap;
 
 	protected ArangoExtCursorIterator(final ArangoCursor<T> cursor, final InternalArangoDatabase<?, ?> db,
 		final ArangoCursorExecute execute, final CursorEntity result) {
 		super(cursor, execute, db, result);
+		// documents are read while iterating, possibly after the fetch plan of the query is no longer active
+		fetchPlan = FetchPlanContext.current();
+		outerIdentityMap = IdentityMap.current();
 	}
 
 	public void setConverter(final ArangoConverter converter) {
@@ -55,11 +68,41 @@ class ArangoExtCursorIterator<T> extends ArangoCursorIterator<T> {
 		this.eventPublisher = eventPublisher;
 	}
 
+	public void setDirtyTracker(final DirtyTracker dirtyTracker) {
+		this.dirtyTracker = dirtyTracker;
+	}
+
+	public void setReferencePrefetcher(final ReferencePrefetcher referencePrefetcher) {
+		this.referencePrefetcher = referencePrefetcher;
+	}
+
+	public void setPartialLoads(final PartialLoadTracker partialLoads) {
+		this.partialLoads = partialLoads;
+	}
+
 	@Override
 	protected <R> R deserialize(final VPackSlice source, final Class<R> type) {
-		final R result = converter.read(type, source);
+		return FetchPlanContext.execute(fetchPlan, () -> read(source, type));
+	}
+
+	private <R> R read(final VPackSlice source, final Class<R> type) {
+		if (getResult() != batch) {
+			// first document of a new batch
+			batch = getResult();
+			readContext = referencePrefetcher != null ? referencePrefetcher.prefetch(batch.getResult(), type) : null;
+			// documents are materialized once per batch, unless an identity map was active when the query was executed
+			identityMap = outerIdentityMap != null ? outerIdentityMap : new IdentityMap();
+		}
+		final R result = identityMap.execute(() -> readContext != null
+				? readContext.execute(() -> converter.read(type, source)) : converter.read(type, source));
 		if (result != null) {
 			potentiallyEmitEvent(new AfterLoadEvent<>(result));
+			if (dirtyTracker != null && !dirtyTracker.isTracked(result)) {
+				dirtyTracker.track(result);
+			}
+			if (partialLoads != null) {
+				partialLoads.trackIfPartial(result);
+			}
 		}
 		return result;
 	}
@@ -26,10 +26,23 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
@@ -40,13 +53,19 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.expression.BeanFactoryAccessor;
 import org.springframework.context.expression.BeanFactoryResolver;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.dao.support.PersistenceExceptionTranslator;
 import org.springframework.data.domain.Persistable;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.expression.Expression;
 import org.springframework.expression.ParserContext;
+import org.springframework.expression.common.LiteralExpression;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import com.arangodb.ArangoCollection;
 import com.arangodb.ArangoCursor;
@@ -54,43 +73,53 @@ import com.arangodb.ArangoDB;
 import com.arangodb.ArangoDBException;
 import com.arangodb.ArangoDatabase;
 import com.arangodb.entity.ArangoDBVersion;
+import com.arangodb.entity.CollectionEntity;
+import com.arangodb.entity.CursorEntity;
 import com.arangodb.entity.DocumentEntity;
+import com.arangodb.entity.DocumentImportEntity;
+import com.arangodb.entity.ErrorEntity;
+import com.arangodb.entity.IndexEntity;
 import com.arangodb.entity.MultiDocumentEntity;
 import com.arangodb.entity.UserEntity;
+import com.arangodb.internal.InternalArangoDatabase;
 import com.arangodb.model.AqlQueryOptions;
 import com.arangodb.model.CollectionCreateOptions;
+import com.arangodb.model.CollectionsReadOptions;
 import com.arangodb.model.DocumentCreateOptions;
 import com.arangodb.model.DocumentDeleteOptions;
+import com.arangodb.model.DocumentImportOptions;
 import com.arangodb.model.DocumentReadOptions;
 import com.arangodb.model.DocumentReplaceOptions;
 import com.arangodb.model.DocumentUpdateOptions;
-import com.arangodb.model.FulltextIndexOptions;
-import com.arangodb.model.GeoIndexOptions;
-import com.arangodb.model.HashIndexOptions;
-import com.arangodb.model.PersistentIndexOptions;
-import com.arangodb.model.SkiplistIndexOptions;
-import com.arangodb.springframework.annotation.FulltextIndex;
-import com.arangodb.springframework.annotation.GeoIndex;
-import com.arangodb.springframework.annotation.HashIndex;
-import com.arangodb.springframework.annotation.PersistentIndex;
-import com.arangodb.springframework.annotation.SkiplistIndex;
+import com.arangodb.springframework.annotation.Document;
+import com.arangodb.springframework.annotation.Edge;
 import com.arangodb.springframework.core.ArangoOperations;
+import com.arangodb.springframework.core.BulkOptions;
+import com.arangodb.springframework.core.BulkWriteResult;
+import com.arangodb.springframework.core.BulkWriter;
 import com.arangodb.springframework.core.CollectionOperations;
+import com.arangodb.springframework.core.UnitOfWork;
 import com.arangodb.springframework.core.UserOperations;
 import com.arangodb.springframework.core.convert.ArangoConverter;
+import com.arangodb.springframework.core.convert.IdentityMap;
 import com.arangodb.springframework.core.mapping.ArangoPersistentEntity;
 import com.arangodb.springframework.core.mapping.ArangoPersistentProperty;
+import com.arangodb.springframework.core.mapping.FetchPlanContext;
 import com.arangodb.springframework.core.mapping.event.AfterDeleteEvent;
 import com.arangodb.springframework.core.mapping.event.AfterLoadEvent;
 import com.arangodb.springframework.core.mapping.event.AfterSaveEvent;
 import com.arangodb.springframework.core.mapping.event.ArangoMappingEvent;
 import com.arangodb.springframework.core.mapping.event.BeforeDeleteEvent;
 import com.arangodb.springframework.core.mapping.event.BeforeSaveEvent;
+import com.arangodb.springframework.core.template.DefaultBulkWriter.BulkCallback;
 import com.arangodb.springframework.core.template.DefaultUserOperation.CollectionCallback;
 import com.arangodb.springframework.core.util.ArangoExceptionTranslator;
 import com.arangodb.springframework.core.util.MetadataUtils;
+import com.arangodb.springframework.core.util.RelationJoins;
 import com.arangodb.util.MapBuilder;
+import com.arangodb.velocypack.VPackBuilder;
 import com.arangodb.velocypack.VPackSlice;
+import com.arangodb.velocypack.ValueType;
 
 /**
  * @author Mark Vollmary
@@ -99,7 +128,16 @@ import com.arangodb.velocypack.VPackSlice;
  */
 public class ArangoTemplate implements ArangoOperations, CollectionCallback, ApplicationContextAware {
 
-	private static final SpelExpressionParser PARSER = new SpelExpressionParser();
+	// expressions are compiled after their first evaluation, if they are not compilable they stay interpreted
+	private static final SpelExpressionParser PARSER = new SpelExpressionParser(
+			new SpelParserConfiguration(SpelCompilerMode.MIXED, null));
+	private static final int ERROR_DOCUMENT_NOT_FOUND = 1202;
+	private static final int ERROR_COLLECTION_NOT_FOUND = 1203;
+	private static final String _ID = "_id";
+	private static final String _KEY = "_key";
+	private static final String _REV = "_rev";
+	private static final Pattern MODIFICATION_QUERY = Pattern.compile("\\b(INSERT|UPDATE|REPLACE|REMOVE|UPSERT)\\b",
+		Pattern.CASE_INSENSITIVE);
 
 	private volatile ArangoDBVersion version;
 	private final PersistenceExceptionTranslator exceptionTranslator;
@@ -109,10 +147,19 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
 	private final Expression databaseExpression;
 	private final Map<String, ArangoDatabase> databaseCache;
 	private final Map<CollectionCacheKey, CollectionCacheValue> collectionCache;
+	private final Map<Class<?>, EntityOperationContext> operationContexts;
+	private final CollectionWriteVersions writeVersions;
+	private final PartialLoadTracker partialLoads;
 
 	private final StandardEvaluationContext context;
 
 	private ApplicationEventPublisher eventPublisher;
+	private Executor executor;
+	private int findChunkSize;
+	private DirtyTracker dirtyTracker;
+	private EntityCache entityCache;
+	private CoalescingLoader coalescingLoader;
+	private ReferencePrefetcher referencePrefetcher;
 
 	public ArangoTemplate(final ArangoDB arango, final String database) {
 		this(arango, database, null);
@@ -125,21 +172,76 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
 	public ArangoTemplate(final ArangoDB arango, final String database, final ArangoConverter converter,
 		final PersistenceExceptionTranslator exceptionTranslator) {
 		super();
-		this.arango = arango._setCursorInitializer(new ArangoCursorInitializer(converter));
+		this.arango = arango;
 		this.databaseName = database;
-		this.databaseExpression = PARSER.parseExpression(databaseName, ParserContext.TEMPLATE_EXPRESSION);
+		this.databaseExpression = parseExpression(databaseName);
 		this.converter = converter;
 		this.exceptionTranslator = exceptionTranslator;
 		this.context = new StandardEvaluationContext();
 		// set concurrency level to 1 as writes are very rare compared to reads
 		collectionCache = new ConcurrentHashMap<>(8, 0.9f, 1);
+		operationContexts = new ConcurrentHashMap<>(8, 0.9f, 1);
 		databaseCache = new ConcurrentHashMap<>(8, 0.9f, 1);
+		writeVersions = new CollectionWriteVersions();
 		version = null;
+		executor = createDefaultExecutor();
+		findChunkSize = BulkOptions.DEFAULT_CHUNK_SIZE;
+		referencePrefetcher = new ReferencePrefetcher(converter, this::loadReferences);
+		partialLoads = new PartialLoadTracker(converter);
+		updateCursorInitializer();
+	}
+
+	/**
+	 * The tasks block on I/O, so they get their own bounded pool instead of sharing the common pool. The idle threads
+	 * terminate, so a template no longer in use holds no threads.
+	 */
+	private static Executor createDefaultExecutor() {
+		final int threads = Math.max(2, Runtime.getRuntime().availableProcessors());
+		final AtomicInteger count = new AtomicInteger();
+		final ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<>(), runnable -> {
+					final Thread thread = new Thread(runnable, "arangodb-template-" + count.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				});
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+
+	private static Expression parseExpression(final String template) {
+		final Expression expression = PARSER.parseExpression(template, ParserContext.TEMPLATE_EXPRESSION);
+		// a plain name needs no evaluation
+		return expression instanceof LiteralExpression ? null : expression;
+	}
+
+	private void updateCursorInitializer() {
+		arango._setCursorInitializer(
+			new ArangoCursorInitializer(converter, eventPublisher, dirtyTracker, referencePrefetcher, partialLoads));
+	}
+
+	private Collection<VPackSlice> loadReferences(final String collection, final Collection<String> keys) {
+		try {
+			// no _collection(), a reference must not create the collection it points to
+			return db().collection(collection).getDocuments(keys, VPackSlice.class).getDocuments();
+		} catch (final ArangoDBException e) {
+			if (e.getErrorNum() != null && e.getErrorNum() == ERROR_COLLECTION_NOT_FOUND) {
+				// the referenced documents are missing
+				return Collections.emptyList();
+			}
+			throw translateExceptionIfPossible(e);
+		}
+	}
+
+	private String databaseName() {
+		return databaseExpression != null ? databaseExpression.getValue(context, String.class) : databaseName;
 	}
 
 	private ArangoDatabase db() {
-		final String key = databaseExpression != null ? databaseExpression.getValue(context, String.class)
-				: databaseName;
+		final String key = databaseName();
+		final ArangoDatabase cached = databaseCache.get(key);
+		if (cached != null) {
+			return cached;
+		}
 		return databaseCache.computeIfAbsent(key, name -> {
 			final ArangoDatabase db = arango.db(name);
 			if (!db.exists()) {
@@ -162,112 +264,90 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
 	}
 
 	private ArangoCollection _collection(final Class<?> entityClass, final Object id) {
-		final ArangoPersistentEntity<?> persistentEntity = converter.getMappingContext()
-				.getRequiredPersistentEntity(entityClass);
+		final EntityOperationContext operationContext = operationContext(entityClass);
+		final ArangoPersistentEntity<?> persistentEntity = operationContext.getEntity();
 		final String name = determineCollectionFromId(id).orElse(persistentEntity.getCollection());
-		return _collection(name, persistentEntity, persistentEntity.getCollectionOptions());
+		final String dbName = databaseName();
+		CollectionCacheValue value = operationContext.getCollection(dbName, name);
+		if (value == null) {
+			value = _collectionValue(name, persistentEntity, persistentEntity.getCollectionOptions());
+			operationContext.setCollection(dbName, name, value);
+		}
+		return value.getCollection();
+	}
+
+	private EntityOperationContext operationContext(final Class<?> entityClass) {
+		final EntityOperationContext operationContext = operationContexts.get(entityClass);
+		return operationContext != null ? operationContext
+				: operationContexts.computeIfAbsent(entityClass, type -> new EntityOperationContext(
+						converter.getMappingContext().getRequiredPersistentEntity(type)));
 	}
 
 	private ArangoCollection _collection(
 		final String name,
 		final ArangoPersistentEntity<?> persistentEntity,
 		final CollectionCreateOptions options) {
+		return _collectionValue(name, persistentEntity, options).getCollection();
+	}
+
+	private CollectionCacheValue _collectionValue(
+		final String name,
+		final ArangoPersistentEntity<?> persistentEntity,
+		final CollectionCreateOptions options) {
 
 		final ArangoDatabase db = db();
-		final Class<?> entityClass = persistentEntity != null ? persistentEntity.getType() : null;
-		final CollectionCacheValue value = collectionCache.computeIfAbsent(new CollectionCacheKey(db.name(), name),
-			key -> {
-				final ArangoCollection collection = db.collection(name);
-				if (!collection.exists()) {
-					collection.create(options);
-				}
-				return new CollectionCacheValue(collection);
-			});
-		final Collection<Class<?>> entities = value.getEntities();
+		final CollectionCacheKey key = new CollectionCacheKey(db.name(), name);
+		CollectionCacheValue value = collectionCache.get(key);
+		if (value == null) {
+			// no remote calls within computeIfAbsent, the bootstrap runs single-flight within the value
+			value = collectionCache.computeIfAbsent(key, k -> new CollectionCacheValue(db.collection(name)));
+		}
 		final ArangoCollection collection = value.getCollection();
-		if (persistentEntity != null && !entities.contains(entityClass)) {
-			value.addEntityClass(entityClass);
-			ensureCollectionIndexes(collection(collection), persistentEntity);
+		value.initializeCollection(() -> {
+			if (!collection.exists()) {
+				collection.create(options);
+			}
+		});
+		if (persistentEntity != null) {
+			value.initializeEntityClass(persistentEntity.getType(),
+				() -> ensureCollectionIndexes(collection(collection), persistentEntity));
 		}
-		return collection;
-	}
-
-	private static void ensureCollectionIndexes(
-		final CollectionOperations collection,
-		final ArangoPersistentEntity<?> persistentEntity) {
-		persistentEntity.getHashIndexes().stream().forEach(index -> ensureHashIndex(collection, index));
-		persistentEntity.getHashIndexedProperties().stream().forEach(p -> ensureHashIndex(collection, p));
-		persistentEntity.getSkiplistIndexes().stream().forEach(index -> ensureSkiplistIndex(collection, index));
-		persistentEntity.getSkiplistIndexedProperties().stream().forEach(p -> ensureSkiplistIndex(collection, p));
-		persistentEntity.getPersistentIndexes().stream().forEach(index -> ensurePersistentIndex(collection, index));
-		persistentEntity.getPersistentIndexedProperties().stream().forEach(p -> ensurePersistentIndex(collection, p));
-		persistentEntity.getGeoIndexes().stream().forEach(index -> ensureGeoIndex(collection, index));
-		persistentEntity.getGeoIndexedProperties().stream().forEach(p -> ensureGeoIndex(collection, p));
-		persistentEntity.getFulltextIndexes().stream().forEach(index -> ensureFulltextIndex(collection, index));
-		persistentEntity.getFulltextIndexedProperties().stream().forEach(p -> ensureFulltextIndex(collection, p));
-	}
-
-	private static void ensureHashIndex(final CollectionOperations collection, final HashIndex annotation) {
-		collection.ensureHashIndex(Arrays.asList(annotation.fields()), new HashIndexOptions()
-				.unique(annotation.unique()).sparse(annotation.sparse()).deduplicate(annotation.deduplicate()));
+		return value;
 	}
 
-	private static void ensureHashIndex(final CollectionOperations collection, final ArangoPersistentProperty value) {
-		final HashIndexOptions options = new HashIndexOptions();
-		value.getHashIndexed()
-				.ifPresent(i -> options.unique(i.unique()).sparse(i.sparse()).deduplicate(i.deduplicate()));
-		collection.ensureHashIndex(Collections.singleton(value.getFieldName()), options);
+	private void bumpWriteVersion(final ArangoCollection collection) {
+		writeVersions.bump(collection.db().name(), collection.name());
 	}
 
-	private static void ensureSkiplistIndex(final CollectionOperations collection, final SkiplistIndex annotation) {
-		collection.ensureSkiplistIndex(Arrays.asList(annotation.fields()), new SkiplistIndexOptions()
-				.unique(annotation.unique()).sparse(annotation.sparse()).deduplicate(annotation.deduplicate()));
-	}
-
-	private static void ensureSkiplistIndex(
-		final CollectionOperations collection,
-		final ArangoPersistentProperty value) {
-		final SkiplistIndexOptions options = new SkiplistIndexOptions();
-		value.getSkiplistIndexed()
-				.ifPresent(i -> options.unique(i.unique()).sparse(i.sparse()).deduplicate(i.deduplicate()));
-		collection.ensureSkiplistIndex(Collections.singleton(value.getFieldName()), options);
-	}
-
-	private static void ensurePersistentIndex(final CollectionOperations collection, final PersistentIndex annotation) {
-		collection.ensurePersistentIndex(Arrays.asList(annotation.fields()),
-			new PersistentIndexOptions().unique(annotation.unique()).sparse(annotation.sparse()));
-	}
-
-	private static void ensurePersistentIndex(
-		final CollectionOperations collection,
-		final ArangoPersistentProperty value) {
-		final PersistentIndexOptions options = new PersistentIndexOptions();
-		value.getPersistentIndexed().ifPresent(i -> options.unique(i.unique()).sparse(i.sparse()));
-		collection.ensurePersistentIndex(Collections.singleton(value.getFieldName()), options);
-	}
-
-	private static void ensureGeoIndex(final CollectionOperations collection, final GeoIndex annotation) {
-		collection.ensureGeoIndex(Arrays.asList(annotation.fields()),
-			new GeoIndexOptions().geoJson(annotation.geoJson()));
-	}
-
-	private static void ensureGeoIndex(final CollectionOperations collection, final ArangoPersistentProperty value) {
-		final GeoIndexOptions options = new GeoIndexOptions();
-		value.getGeoIndexed().ifPresent(i -> options.geoJson(i.geoJson()));
-		collection.ensureGeoIndex(Collections.singleton(value.getFieldName()), options);
-	}
-
-	private static void ensureFulltextIndex(final CollectionOperations collection, final FulltextIndex annotation) {
-		collection.ensureFulltextIndex(Collections.singleton(annotation.field()),
-			new FulltextIndexOptions().minLength(annotation.minLength() > -1 ? annotation.minLength() : null));
-	}
-
-	private static void ensureFulltextIndex(
+	private static void ensureCollectionIndexes(
 		final CollectionOperations collection,
-		final ArangoPersistentProperty value) {
-		final FulltextIndexOptions options = new FulltextIndexOptions();
-		value.getFulltextIndexed().ifPresent(i -> options.minLength(i.minLength() > -1 ? i.minLength() : null));
-		collection.ensureFulltextIndex(Collections.singleton(value.getFieldName()), options);
+		final ArangoPersistentEntity<?> persistentEntity) {
+		getIndexDefinitions(persistentEntity).forEach(index -> index.ensure(collection));
+	}
+
+	private static Collection<IndexDefinition> getIndexDefinitions(final ArangoPersistentEntity<?> persistentEntity) {
+		final Collection<IndexDefinition> indexes = new ArrayList<>();
+		persistentEntity.getHashIndexes().forEach(i -> indexes
+				.add(IndexDefinition.hash(Arrays.asList(i.fields()), i.unique(), i.sparse(), i.deduplicate())));
+		persistentEntity.getHashIndexedProperties().forEach(p -> p.getHashIndexed().ifPresent(i -> indexes.add(
+			IndexDefinition.hash(Collections.singleton(p.getFieldName()), i.unique(), i.sparse(), i.deduplicate()))));
+		persistentEntity.getSkiplistIndexes().forEach(i -> indexes
+				.add(IndexDefinition.skiplist(Arrays.asList(i.fields()), i.unique(), i.sparse(), i.deduplicate())));
+		persistentEntity.getSkiplistIndexedProperties().forEach(p -> p.getSkiplistIndexed().ifPresent(i -> indexes.add(
+			IndexDefinition.skiplist(Collections.singleton(p.getFieldName()), i.unique(), i.sparse(), i.deduplicate()))));
+		persistentEntity.getPersistentIndexes().forEach(
+			i -> indexes.add(IndexDefinition.persistent(Arrays.asList(i.fields()), i.unique(), i.sparse())));
+		persistentEntity.getPersistentIndexedProperties().forEach(p -> p.getPersistentIndexed().ifPresent(i -> indexes
+				.add(IndexDefinition.persistent(Collections.singleton(p.getFieldName()), i.unique(), i.sparse()))));
+		persistentEntity.getGeoIndexes()
+				.forEach(i -> indexes.add(IndexDefinition.geo(Arrays.asList(i.fields()), i.geoJson())));
+		persistentEntity.getGeoIndexedProperties().forEach(p -> p.getGeoIndexed()
+				.ifPresent(i -> indexes.add(IndexDefinition.geo(Collections.singleton(p.getFieldName()), i.geoJson()))));
+		persistentEntity.getFulltextIndexes().forEach(
+			i -> indexes.add(IndexDefinition.fulltext(Collections.singleton(i.field()), i.minLength())));
+		persistentEntity.getFulltextIndexedProperties().forEach(p -> p.getFulltextIndexed().ifPresent(
+			i -> indexes.add(IndexDefinition.fulltext(Collections.singleton(p.getFieldName()), i.minLength()))));
+		return indexes;
 	}
 
 	private Optional<String> determineCollectionFromId(final Object id) {
@@ -280,6 +360,11 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
 	}
 
 	private VPackSlice toVPack(final Object source) {
+		if (converter.isProjected(source)) {
+			throw new InvalidDataAccessApiUsageException(String.format(
+				"Entity of type %s was read with a projection (fields of @From/@To) and can not be written.",
+				source.getClass().getName()));
+		}
 		return converter.write(source);
 	}
 
@@ -295,6 +380,11 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
 		final T result = converter.read(entityClass, source);
 		if (result != null) {
 			potentiallyEmitEvent(new AfterLoadEvent<>(result));
+			// an entity from the identity map keeps the snapshot of its first read
+			if (dirtyTracker != null && !dirtyTracker.isTracked(result)) {
+				dirtyTracker.track(result);
+			}
+			partialLoads.trackIfPartial(result);
 		}
 		return result;
 	}
@@ -339,7 +429,16 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
 		final Map<String, Object> bindVars,
 		final AqlQueryOptions options,
 		final Class<T> entityClass) throws DataAccessException {
-		return db().query(query, bindVars == null ? null : prepareBindVars(bindVars), options, entityClass);
+		final ArangoDatabase db = db();
+		try {
+			return db.query(query, bindVars == null ? null : prepareBindVars(bindVars), options, entityClass);
+		} finally {
+			if (MODIFICATION_QUERY.matcher(query).find()) {
+				// the modified documents are unknown, so everything cached of the database is outdated
+				writeVersions.bumpAll(db.name());
+				evictDatabase(db.name());
+			}
+		}
 	}
 
 	private Map<String, Object> prepareBindVars(final Map<String, Object> bindVars) {
@@ -348,7 +447,7 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
 			if (entry.getKey().startsWith("@") && entry.getValue() instanceof Class) {
 				prepared.put(entry.getKey(), _collection((Class<?>) entry.getValue()).name());
 			} else {
-				prepared.put(entry.getKey(), toVPack(entry.getValue()));
+				prepared.put(entry.getKey(), converter.write(entry.getValue()));
 			}
 		}
 		return prepared;
@@ -363,11 +462,15 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
 		potentiallyEmitBeforeDeleteEvent(values, entityClass);
 
 		MultiDocumentEntity<? extends DocumentEntity> result;
+		final ArangoCollection collection = _collection(entityClass);
 		try {
-			result = _collection(entityClass).deleteDocuments(toVPackCollection(values), entityClass, options);
+			result = collection.deleteDocuments(toVPackCollection(values), entityClass, options);
 		} catch (final ArangoDBException e) {
 			throw translateExceptionIfPossible(e);
+		} finally {
+			bumpWriteVersion(collection);
 		}
+		result.getDocuments().forEach(doc -> potentiallyEvict(doc.getId()));
 
 		potentiallyEmitAfterDeleteEvent(values, entityClass, result);
 		return result;
@@ -387,11 +490,17 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
 		potentiallyEmitEvent(new BeforeDeleteEvent<>(id, entityClass));
 
 		final DocumentEntity result;
+		final ArangoCollection collection = _collection(entityClass, id);
+		final String key = determineDocumentKeyFromId(id);
 		try {
-			result = _collection(entityClass, id).deleteDocument(determineDocumentKeyFromId(id), entityClass, options);
+			result = collection.deleteDocument(key, entityClass, options);
 		} catch (final ArangoDBException e) {
+			potentiallyEvict(MetadataUtils.createIdFromCollectionAndKey(collection.name(), key));
 			throw translateExceptionIfPossible(e);
+		} finally {
+			bumpWriteVersion(collection);
 		}
+		potentiallyEvict(MetadataUtils.createIdFromCollectionAndKey(collection.name(), key));
 
 		potentiallyEmitEvent(new AfterDeleteEvent<>(id, entityClass));
 		return result;
@@ -411,10 +520,13 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
 		potentiallyEmitBeforeSaveEvent(values);
 
 		final MultiDocumentEntity<? extends DocumentEntity> result;
+		final ArangoCollection collection = _collection(entityClass);
 		try {
-			result = _collection(entityClass).updateDocuments(toVPackCollection(values), options);
+			result = collection.updateDocuments(toVPackCollection(values), options);
 		} catch (final ArangoDBException e) {
 			throw translateExceptionIfPossible(e);
+		} finally {
+			bumpWriteVersion(collection);
 		}
 
 		updateDBFields(values, result);
@@ -434,13 +546,18 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
 			throws DataAccessException {
 
 		potentiallyEmitEvent(new BeforeSaveEvent<>(value));
+		return _update(id, value, options);
+	}
 
+	private DocumentEntity _update(final Object id, final Object value, final DocumentUpdateOptions options) {
 		final DocumentEntity result;
+		final ArangoCollection collection = _collection(value.getClass(), id);
 		try {
-			result = _collection(value.getClass(), id).updateDocument(determineDocumentKeyFromId(id), toVPack(value),
-				options);
+			result = collection.updateDocument(determineDocumentKeyFromId(id), toVPack(value), options);
 		} catch (final ArangoDBException e) {
 			throw translateExceptionIfPossible(e);
+		} finally {
+			bumpWriteVersion(collection);
 		}
 
 		updateDBFields(value, result);
@@ -459,13 +576,19 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
 		final Class<T> entityClass,
 		final DocumentReplaceOptions options) throws DataAccessException {
 
+		for (final T value : values) {
+			checkNotPartial(value);
+		}
 		potentiallyEmitBeforeSaveEvent(values);
 
 		final MultiDocumentEntity<? extends DocumentEntity> result;
+		final ArangoCollection collection = _collection(entityClass);
 		try {
-			result = _collection(entityClass).replaceDocuments(toVPackCollection(values), options);
+			result = collection.replaceDocuments(toVPackCollection(values), options);
 		} catch (final ArangoDBException e) {
 			throw translateExceptionIfPossible(e);
+		} finally {
+			bumpWriteVersion(collection);
 		}
 
 		updateDBFields(values, result);
@@ -483,17 +606,33 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
 	@Override
 	public DocumentEntity replace(final Object id, final Object value, final DocumentReplaceOptions options)
 			throws DataAccessException {
+		checkNotPartial(value);
 		potentiallyEmitEvent(new BeforeSaveEvent<>(value));
+		return _replace(id, value, options);
+	}
+
+	private void checkNotPartial(final Object value) {
+		if (partialLoads.isPartial(value)) {
+			throw new InvalidDataAccessApiUsageException(String.format(
+				"Entity of type %s was loaded without some of its attributes by a fetch plan, replacing it would remove them. Use update or repsert instead.",
+				value.getClass().getName()));
+		}
+	}
 
+	private DocumentEntity _replace(final Object id, final Object value, final DocumentReplaceOptions options) {
 		final DocumentEntity result;
+		final VPackSlice doc = toVPack(value);
+		final ArangoCollection collection = _collection(value.getClass(), id);
 		try {
-			result = _collection(value.getClass(), id).replaceDocument(determineDocumentKeyFromId(id), toVPack(value),
-				options);
+			result = collection.replaceDocument(determineDocumentKeyFromId(id), doc, options);
 		} catch (final ArangoDBException e) {
 			throw translateExceptionIfPossible(e);
+		} finally {
+			bumpWriteVersion(collection);
 		}
 
 		updateDBFields(value, result);
+		potentiallyCache(value.getClass(), doc, result);
 		potentiallyEmitEvent(new AfterSaveEvent<>(value));
 		return result;
 	}
@@ -507,14 +646,121 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
 	public <T> Optional<T> find(final Object id, final Class<T> entityClass, final DocumentReadOptions options)
 			throws DataAccessException {
 		try {
-			final VPackSlice doc = _collection(entityClass, id).getDocument(determineDocumentKeyFromId(id),
-				VPackSlice.class, options);
-			return Optional.ofNullable(fromVPack(entityClass, doc));
+			final ArangoCollection collection = _collection(entityClass, id);
+			final String key = determineDocumentKeyFromId(id);
+			final boolean plainRead = isPlainRead(options);
+			final IdentityMap identityMap = IdentityMap.current();
+			if (plainRead && identityMap != null) {
+				final Object known = identityMap
+						.get(MetadataUtils.createIdFromCollectionAndKey(collection.name(), key), entityClass);
+				if (known != null) {
+					return Optional.of(entityClass.cast(known));
+				}
+			}
+			return IdentityMap.open(() -> {
+				final VPackSlice doc = plainRead ? findPlain(collection, key, entityClass)
+						: collection.getDocument(key, VPackSlice.class, options);
+				return Optional.ofNullable(fromVPack(entityClass, doc));
+			});
 		} catch (final ArangoDBException e) {
 			throw translateExceptionIfPossible(e);
 		}
 	}
 
+	private static boolean isPlainRead(final DocumentReadOptions options) {
+		return options == null || (options.getIfMatch() == null && options.getIfNoneMatch() == null
+				&& options.isCatchException());
+	}
+
+	private VPackSlice findPlain(final ArangoCollection collection, final String key, final Class<?> entityClass) {
+		final ReadContext readContext = ReadContext.current();
+		if (readContext != null) {
+			final String id = MetadataUtils.createIdFromCollectionAndKey(collection.name(), key);
+			if (readContext.contains(id)) {
+				return readContext.get(id);
+			}
+		}
+		return entityCache != null ? findCached(collection, key, entityClass) : getDocument(collection, key);
+	}
+
+	private VPackSlice getDocument(final ArangoCollection collection, final String key) {
+		return coalescingLoader != null ? coalescingLoader.load(collection, key)
+				: collection.getDocument(key, VPackSlice.class, new DocumentReadOptions());
+	}
+
+	private VPackSlice findCached(final ArangoCollection collection, final String key, final Class<?> entityClass) {
+		final String cacheKey = EntityCache.key(collection.db().name(),
+			MetadataUtils.createIdFromCollectionAndKey(collection.name(), key));
+		final EntityCache.Entry entry = entityCache.get(entityClass, cacheKey);
+		// every write bumps the version before it evicts, so a document read before a concurrent write is detected
+		final long version = writeVersions.get(collection.db().name(), collection.name());
+		final VPackSlice doc;
+		if (entry == null) {
+			doc = getDocument(collection, key);
+		} else if (entityCache.getMode() == EntityCache.Mode.TRUST) {
+			entityCache.hit(entityClass);
+			return entry.getDocument();
+		} else {
+			try {
+				doc = collection.getDocument(key, VPackSlice.class,
+					new DocumentReadOptions().ifNoneMatch(entry.getRev()).catchException(false));
+			} catch (final ArangoDBException e) {
+				final Integer responseCode = e.getResponseCode();
+				if (responseCode != null && responseCode == 304) {
+					entityCache.touch(entry);
+					entityCache.hit(entityClass);
+					return entry.getDocument();
+				}
+				if (responseCode != null && responseCode == 404) {
+					entityCache.evict(cacheKey);
+					entityCache.miss(entityClass);
+					return null;
+				}
+				throw e;
+			}
+		}
+		entityCache.miss(entityClass);
+		if (doc != null) {
+			entityCache.put(entityClass, cacheKey, doc, doc.get(_REV).getAsString());
+			if (writeVersions.get(collection.db().name(), collection.name()) != version) {
+				entityCache.evict(cacheKey);
+			}
+		}
+		return doc;
+	}
+
+	private void potentiallyCache(final Class<?> entityClass, final VPackSlice document, final DocumentEntity result) {
+		if (entityCache == null || result.getId() == null || result.getRev() == null) {
+			return;
+		}
+		final VPackBuilder builder = new VPackBuilder();
+		builder.add(ValueType.OBJECT);
+		for (final Iterator<Entry<String, VPackSlice>> iterator = document.objectIterator(); iterator.hasNext();) {
+			final Entry<String, VPackSlice> next = iterator.next();
+			final String attribute = next.getKey();
+			if (!_KEY.equals(attribute) && !_ID.equals(attribute) && !_REV.equals(attribute)) {
+				builder.add(attribute, next.getValue());
+			}
+		}
+		builder.add(_KEY, result.getKey());
+		builder.add(_ID, result.getId());
+		builder.add(_REV, result.getRev());
+		builder.close();
+		entityCache.put(entityClass, EntityCache.key(db().name(), result.getId()), builder.slice(), result.getRev());
+	}
+
+	private void evictDatabase(final String db) {
+		if (entityCache != null) {
+			entityCache.evictByPrefix(EntityCache.key(db, ""));
+		}
+	}
+
+	private void potentiallyEvict(final String id) {
+		if (entityCache != null && id != null) {
+			entityCache.evict(EntityCache.key(db().name(), id));
+		}
+	}
+
 	@Override
 	public <T> Optional<T> find(final Object id, final Class<T> entityClass) throws DataAccessException {
 		return find(id, entityClass, new DocumentReadOptions());
@@ -522,8 +768,11 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
 
 	@Override
 	public <T> Iterable<T> findAll(final Class<T> entityClass) throws DataAccessException {
-		final String query = "FOR entity IN @@col RETURN entity";
+		final RelationJoins joins = RelationJoins.of(converter.getMappingContext(), entityClass, "entity");
+		final String query = joins.buildWithClause() + "FOR entity IN @@col RETURN "
+				+ joins.buildReturnExpression("entity");
 		final Map<String, Object> bindVars = new MapBuilder().put("@col", entityClass).get();
+		bindVars.putAll(joins.getBindVars());
 		return new Iterable<T>() {
 			@Override
 			public Iterator<T> iterator() {
@@ -535,14 +784,79 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
 	@Override
 	public <T> Iterable<T> find(final Iterable<? extends Object> ids, final Class<T> entityClass)
 			throws DataAccessException {
+		final ArangoPersistentEntity<?> persistentEntity = operationContext(entityClass).getEntity();
+		final ReadContext readContext = ReadContext.current();
+		final IdentityMap identityMap = IdentityMap.current();
+		final List<String> documentIds = new ArrayList<>();
+		final Map<String, List<String>> keysByCollection = new LinkedHashMap<>();
+		final Collection<VPackSlice> prefetched = new ArrayList<>();
+		final Map<String, T> entities = new HashMap<>();
+		for (final Object id : ids) {
+			final String collection = determineCollectionFromId(id).orElse(persistentEntity.getCollection());
+			final String key = determineDocumentKeyFromId(id);
+			final String documentId = MetadataUtils.createIdFromCollectionAndKey(collection, key);
+			documentIds.add(documentId);
+			final Object entity = identityMap != null ? identityMap.get(documentId, entityClass) : null;
+			if (entity != null) {
+				entities.put(documentId, entityClass.cast(entity));
+			} else if (readContext != null && readContext.contains(documentId)) {
+				prefetched.add(readContext.get(documentId));
+			} else {
+				keysByCollection.computeIfAbsent(collection, c -> new ArrayList<>()).add(key);
+			}
+		}
 		try {
-			final Collection<String> keys = new ArrayList<>();
-			ids.forEach(id -> keys.add(determineDocumentKeyFromId(id)));
-			final MultiDocumentEntity<VPackSlice> docs = _collection(entityClass).getDocuments(keys, VPackSlice.class);
-			return docs.getDocuments().stream().map(doc -> fromVPack(entityClass, doc)).collect(Collectors.toList());
+			final List<Supplier<Collection<VPackSlice>>> chunks = new ArrayList<>();
+			for (final Entry<String, List<String>> entry : keysByCollection.entrySet()) {
+				final ArangoCollection collection = _collection(entry.getKey(), persistentEntity,
+					persistentEntity.getCollectionOptions());
+				final List<String> keys = entry.getValue();
+				for (int from = 0; from < keys.size(); from += findChunkSize) {
+					final List<String> chunk = keys.subList(from, Math.min(from + findChunkSize, keys.size()));
+					chunks.add(() -> collection.getDocuments(chunk, VPackSlice.class).getDocuments());
+				}
+			}
+			// the documents of a chunk are converted on this thread, within the identity map and the fetch plan of
+			// this read, as soon as the chunk is read
+			(identityMap != null ? identityMap : new IdentityMap()).execute(() -> {
+				fromVPack(entityClass, prefetched, entities);
+				if (chunks.size() == 1) {
+					fromVPack(entityClass, chunks.get(0).get(), entities);
+				} else if (!chunks.isEmpty()) {
+					final List<CompletableFuture<Collection<VPackSlice>>> futures = chunks.stream()
+							.map(chunk -> CompletableFuture.supplyAsync(chunk, executor))
+							.collect(Collectors.toList());
+					for (final CompletableFuture<Collection<VPackSlice>> future : futures) {
+						fromVPack(entityClass, future.join(), entities);
+					}
+				}
+				return null;
+			});
+		} catch (final CompletionException e) {
+			final Throwable cause = e.getCause();
+			if (cause instanceof ArangoDBException) {
+				throw translateExceptionIfPossible((ArangoDBException) cause);
+			}
+			throw cause instanceof RuntimeException ? (RuntimeException) cause : e;
 		} catch (final ArangoDBException e) {
 			throw translateExceptionIfPossible(e);
 		}
+		return documentIds.stream().map(entities::get).filter(Objects::nonNull).collect(Collectors.toList());
+	}
+
+	private <T> void fromVPack(
+		final Class<T> entityClass,
+		final Collection<VPackSlice> documents,
+		final Map<String, T> entities) {
+		for (final VPackSlice document : documents) {
+			if (document == null) {
+				continue;
+			}
+			final T entity = fromVPack(entityClass, document);
+			if (entity != null) {
+				entities.put(document.get(_ID).getAsString(), entity);
+			}
+		}
 	}
 
 	@Override
@@ -552,12 +866,21 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
 		final DocumentCreateOptions options) throws DataAccessException {
 
 		potentiallyEmitBeforeSaveEvent(values);
+		return _insert(values, entityClass, options);
+	}
 
+	private <T> MultiDocumentEntity<? extends DocumentEntity> _insert(
+		final Iterable<T> values,
+		final Class<T> entityClass,
+		final DocumentCreateOptions options) {
 		final MultiDocumentEntity<? extends DocumentEntity> result;
+		final ArangoCollection collection = _collection(entityClass);
 		try {
-			result = _collection(entityClass).insertDocuments(toVPackCollection(values), options);
+			result = collection.insertDocuments(toVPackCollection(values), options);
 		} catch (final ArangoDBException e) {
 			throw translateExceptionIfPossible(e);
+		} finally {
+			bumpWriteVersion(collection);
 		}
 
 		updateDBFields(values, result);
@@ -575,15 +898,23 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
 	@Override
 	public DocumentEntity insert(final Object value, final DocumentCreateOptions options) throws DataAccessException {
 		potentiallyEmitEvent(new BeforeSaveEvent<>(value));
+		return _insert(value, options);
+	}
 
+	private DocumentEntity _insert(final Object value, final DocumentCreateOptions options) {
 		final DocumentEntity result;
+		final VPackSlice doc = toVPack(value);
+		final ArangoCollection collection = _collection(value.getClass());
 		try {
-			result = _collection(value.getClass()).insertDocument(toVPack(value), options);
+			result = collection.insertDocument(doc, options);
 		} catch (final ArangoDBException e) {
 			throw exceptionTranslator.translateExceptionIfPossible(e);
+		} finally {
+			bumpWriteVersion(collection);
 		}
 
 		updateDBFields(value, result);
+		potentiallyCache(value.getClass(), doc, result);
 		potentiallyEmitEvent(new AfterSaveEvent<>(value));
 		return result;
 	}
@@ -599,13 +930,18 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
 		potentiallyEmitEvent(new BeforeSaveEvent<>(value));
 
 		final DocumentEntity result;
+		final VPackSlice doc = toVPack(value);
+		final ArangoCollection collection = _collection(collectionName);
 		try {
-			result = _collection(collectionName).insertDocument(toVPack(value), options);
+			result = collection.insertDocument(doc, options);
 		} catch (final ArangoDBException e) {
 			throw exceptionTranslator.translateExceptionIfPossible(e);
+		} finally {
+			bumpWriteVersion(collection);
 		}
 
 		updateDBFields(value, result);
+		potentiallyCache(value.getClass(), doc, result);
 		potentiallyEmitEvent(new AfterSaveEvent<>(value));
 		return result;
 	}
@@ -628,8 +964,31 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
 
 	@Override
 	public <T> void upsert(final T value, final UpsertStrategy strategy) throws DataAccessException {
+		if (!isTracked(value)) {
+			upsertUntracked(value, strategy);
+			return;
+		}
+		// the event is emitted once, also if the partial update falls back to the full write
+		potentiallyEmitEvent(new BeforeSaveEvent<>(value));
+		if (updateChanges(value)) {
+			return;
+		}
+		final Object id = getDocumentKey(operationContext(value.getClass()).getEntity(), value);
+		if (id != null && (!(value instanceof Persistable) || !Persistable.class.cast(value).isNew())) {
+			if (strategy == UpsertStrategy.UPDATE) {
+				_update(id.toString(), value, new DocumentUpdateOptions());
+			} else {
+				checkNotPartial(value);
+				_replace(id.toString(), value, new DocumentReplaceOptions());
+			}
+			return;
+		}
+		_insert(value, new DocumentCreateOptions());
+	}
+
+	private <T> void upsertUntracked(final T value, final UpsertStrategy strategy) {
 		final Class<? extends Object> entityClass = value.getClass();
-		final ArangoPersistentEntity<?> entity = getConverter().getMappingContext().getPersistentEntity(entityClass);
+		final ArangoPersistentEntity<?> entity = operationContext(entityClass).getEntity();
 
 		final Object id = getDocumentKey(entity, value);
 		if (id != null && (!(value instanceof Persistable) || !Persistable.class.cast(value).isNew())) {
@@ -655,7 +1014,7 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
 			return;
 		}
 		final Class<T> entityClass = (Class<T>) first.get().getClass();
-		final ArangoPersistentEntity<?> entity = getConverter().getMappingContext().getPersistentEntity(entityClass);
+		final ArangoPersistentEntity<?> entity = operationContext(entityClass).getEntity();
 
 		final Collection<T> withId = new ArrayList<>();
 		final Collection<T> withoutId = new ArrayList<>();
@@ -685,12 +1044,131 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
 
 	@Override
 	public <T> void repsert(final T value) throws DataAccessException {
-		insert(value, new DocumentCreateOptions().overwrite(true));
+		potentiallyEmitEvent(new BeforeSaveEvent<>(value));
+		if (isTracked(value) && updateChanges(value)) {
+			return;
+		}
+		_insert(value, new DocumentCreateOptions().overwrite(true));
 	}
 
 	@Override
 	public <T> void repsert(final Iterable<T> value, final Class<T> entityClass) throws DataAccessException {
-		insert(value, entityClass, new DocumentCreateOptions().overwrite(true));
+		final Collection<T> untracked = new ArrayList<>();
+		final Collection<T> changed = new ArrayList<>();
+		final Collection<VPackSlice> changes = new ArrayList<>();
+		for (final T e : value) {
+			// the event is emitted once, also if the partial update falls back to the insert
+			potentiallyEmitEvent(new BeforeSaveEvent<>(e));
+			if (!isTracked(e)) {
+				untracked.add(e);
+				continue;
+			}
+			final VPackSlice change = getChanges(e);
+			if (change == null) {
+				untracked.add(e);
+			} else if (DirtyTracker.hasChanges(change)) {
+				changed.add(e);
+				changes.add(change);
+			} else {
+				potentiallyEmitEvent(new AfterSaveEvent<>(e));
+			}
+		}
+		DataAccessException error = null;
+		if (!changed.isEmpty()) {
+			final MultiDocumentEntity<? extends DocumentEntity> result;
+			final ArangoCollection collection = _collection(entityClass);
+			try {
+				result = collection.updateDocuments(changes, changesUpdateOptions());
+			} catch (final ArangoDBException e) {
+				throw translateExceptionIfPossible(e);
+			} finally {
+				bumpWriteVersion(collection);
+			}
+			final Iterator<T> valueIterator = changed.iterator();
+			final Iterator<Object> documentIterator = result.getDocumentsAndErrors().iterator();
+			while (valueIterator.hasNext() && documentIterator.hasNext()) {
+				final Object nextDoc = documentIterator.next();
+				final T nextValue = valueIterator.next();
+				if (nextDoc instanceof DocumentEntity) {
+					updateDBFields(nextValue, (DocumentEntity) nextDoc);
+					potentiallyEmitEvent(new AfterSaveEvent<>(nextValue));
+				} else if (nextDoc instanceof ErrorEntity) {
+					final ErrorEntity errorEntity = (ErrorEntity) nextDoc;
+					if (errorEntity.getErrorNum() == ERROR_DOCUMENT_NOT_FOUND) {
+						untrack(nextValue);
+						untracked.add(nextValue);
+					} else if (error == null) {
+						error = translateExceptionIfPossible(new ArangoDBException(errorEntity));
+					}
+				}
+			}
+		}
+		if (!untracked.isEmpty()) {
+			_insert(untracked, entityClass, new DocumentCreateOptions().overwrite(true));
+		}
+		if (error != null) {
+			throw error;
+		}
+	}
+
+	/**
+	 * @return whether the entity is written as partial update by {@link #repsert(Object)}, because it is tracked for
+	 *         changes or was loaded partially
+	 */
+	private boolean isTracked(final Object value) {
+		return (dirtyTracker != null && dirtyTracker.isTracked(value)) || partialLoads.isPartial(value);
+	}
+
+	/**
+	 * @return the attributes to update of a tracked entity or null if the entity is not tracked. Of a partially loaded
+	 *         entity all loaded attributes are updated, so the attributes it lacks are kept.
+	 */
+	private VPackSlice getChanges(final Object value) {
+		if (dirtyTracker != null && dirtyTracker.isTracked(value)) {
+			return dirtyTracker.getChanges(value, toVPack(value));
+		}
+		return partialLoads.isPartial(value) ? toVPack(value) : null;
+	}
+
+	private void untrack(final Object value) {
+		if (dirtyTracker != null) {
+			dirtyTracker.untrack(value);
+		}
+		partialLoads.untrack(value);
+	}
+
+	/**
+	 * Sends only the changed attributes of a tracked entity or skips the write if nothing has changed.
+	 * 
+	 * @return false if the document does not exist anymore and has to be written completely
+	 */
+	private boolean updateChanges(final Object value) {
+		final VPackSlice changes = getChanges(value);
+		if (changes == null) {
+			return false;
+		}
+		if (DirtyTracker.hasChanges(changes)) {
+			final DocumentEntity result;
+			final ArangoCollection collection = _collection(value.getClass());
+			try {
+				result = collection.updateDocument(changes.get("_key").getAsString(), changes, changesUpdateOptions());
+			} catch (final ArangoDBException e) {
+				if (e.getResponseCode() != null && e.getResponseCode() == 404) {
+					untrack(value);
+					return false;
+				}
+				throw translateExceptionIfPossible(e);
+			} finally {
+				bumpWriteVersion(collection);
+			}
+			updateDBFields(value, result);
+		}
+		potentiallyEmitEvent(new AfterSaveEvent<>(value));
+		return true;
+	}
+
+	private static DocumentUpdateOptions changesUpdateOptions() {
+		return new DocumentUpdateOptions().keepNull(false).mergeObjects(false);
 	}
 
 	private <T> void updateDBFields(final Iterable<T> values, final MultiDocumentEntity<? extends DocumentEntity> res) {
@@ -713,14 +1191,153 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
 	}
 
 	private void updateDBFields(final Object value, final DocumentEntity documentEntity) {
-		final ArangoPersistentEntity<?> entity = converter.getMappingContext().getPersistentEntity(value.getClass());
-		final PersistentPropertyAccessor accessor = entity.getPropertyAccessor(value);
-		final ArangoPersistentProperty idProperty = entity.getIdProperty();
+		updateDBFields(value, documentEntity.getKey(), documentEntity.getId(), documentEntity.getRev());
+	}
+
+	private void updateDBFields(final Object value, final String key, final String id, final String rev) {
+		final EntityOperationContext operationContext = operationContext(value.getClass());
+		final PersistentPropertyAccessor accessor = operationContext.getEntity().getPropertyAccessor(value);
+		final ArangoPersistentProperty idProperty = operationContext.getIdProperty();
 		if (idProperty != null) {
-			accessor.setProperty(idProperty, documentEntity.getKey());
+			accessor.setProperty(idProperty, key);
+		}
+		final ArangoPersistentProperty arangoIdProperty = operationContext.getArangoIdProperty();
+		if (arangoIdProperty != null) {
+			accessor.setProperty(arangoIdProperty, id);
+		}
+		final ArangoPersistentProperty revProperty = operationContext.getRevProperty();
+		if (revProperty != null) {
+			accessor.setProperty(revProperty, rev);
 		}
-		entity.getArangoIdProperty().ifPresent(arangoId -> accessor.setProperty(arangoId, documentEntity.getId()));
-		entity.getRevProperty().ifPresent(rev -> accessor.setProperty(rev, documentEntity.getRev()));
+		if (dirtyTracker != null) {
+			dirtyTracker.refresh(value);
+		}
+		potentiallyEvict(id);
+	}
+
+	@Override
+	public <T> BulkWriter<T> bulkWriter(final Class<T> entityClass, final BulkOptions options)
+			throws DataAccessException {
+		final ArangoCollection collection;
+		try {
+			collection = _collection(entityClass);
+		} catch (final ArangoDBException e) {
+			throw translateExceptionIfPossible(e);
+		}
+		final ArangoPersistentEntity<?> entity = operationContext(entityClass).getEntity();
+		return new DefaultBulkWriter<>(collection, entity, options, executor, exceptionTranslator, new BulkCallback() {
+			@Override
+			public void beforeSave(final Object value) {
+				potentiallyEmitEvent(new BeforeSaveEvent<>(value));
+			}
+
+			@Override
+			public VPackSlice write(final Object value) {
+				return toVPack(value);
+			}
+
+			@Override
+			public void updateDBFields(final Object value, final String key, final String id, final String rev) {
+				ArangoTemplate.this.updateDBFields(value, key, id, rev);
+			}
+
+			@Override
+			public void assignKey(final Object value, final String collection) {
+				ArangoTemplate.this.assignKey(value, collection);
+			}
+
+			@Override
+			public void afterSave(final Object value) {
+				potentiallyEmitEvent(new AfterSaveEvent<>(value));
+			}
+
+			@Override
+			public void afterWrite() {
+				bumpWriteVersion(collection);
+				if (entityCache != null) {
+					entityCache.evictByPrefix(EntityCache.key(collection.db().name(), collection.name() + "/"));
+				}
+			}
+		});
+	}
+
+	@Override
+	public <T> BulkWriteResult upsert(
+		final Iterable<? extends T> values,
+		final Class<T> entityClass,
+		final UpsertStrategy strategy,
+		final BulkOptions bulkOptions,
+		final String... matchProperties) throws DataAccessException {
+		return bulkWriter(entityClass, bulkOptions).upsert(values, strategy, matchProperties);
+	}
+
+	@Override
+	public <T> DocumentImportEntity importDocuments(
+		final Iterable<? extends T> values,
+		final Class<T> entityClass,
+		final DocumentImportOptions options,
+		final BulkOptions bulkOptions) throws DataAccessException {
+		return bulkWriter(entityClass, bulkOptions).importDocuments(values, options);
+	}
+
+	@Override
+	public <T> DocumentImportEntity importDocuments(
+		final Iterable<? extends T> values,
+		final Class<T> entityClass,
+		final DocumentImportOptions options) throws DataAccessException {
+		return importDocuments(values, entityClass, options, new BulkOptions());
+	}
+
+	@Override
+	public <T> BulkWriter<T> bulkWriter(final Class<T> entityClass) throws DataAccessException {
+		return bulkWriter(entityClass, new BulkOptions());
+	}
+
+	private void assignKey(final Object value, final String collection) {
+		final EntityOperationContext operationContext = operationContext(value.getClass());
+		final ArangoPersistentProperty idProperty = operationContext.getIdProperty();
+		final PersistentPropertyAccessor accessor = operationContext.getEntity().getPropertyAccessor(value);
+		if (idProperty == null) {
+			return;
+		}
+		Object key = accessor.getProperty(idProperty);
+		if (key == null) {
+			if (idProperty.getType() != String.class) {
+				return;
+			}
+			key = UUID.randomUUID().toString();
+			accessor.setProperty(idProperty, key);
+		}
+		final String id = MetadataUtils.createIdFromCollectionAndKey(collection, converter.convertId(key));
+		final ArangoPersistentProperty arangoIdProperty = operationContext.getArangoIdProperty();
+		if (arangoIdProperty != null) {
+			accessor.setProperty(arangoIdProperty, id);
+		}
+	}
+
+	@Override
+	public UnitOfWork unitOfWork() {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return new DefaultUnitOfWork(this, false);
+		}
+		UnitOfWork unitOfWork = (UnitOfWork) TransactionSynchronizationManager.getResource(this);
+		if (unitOfWork == null) {
+			final UnitOfWork boundUnitOfWork = new DefaultUnitOfWork(this, true);
+			TransactionSynchronizationManager.bindResource(this, boundUnitOfWork);
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+				@Override
+				public void beforeCommit(final boolean readOnly) {
+					boundUnitOfWork.flush();
+				}
+
+				@Override
+				public void afterCompletion(final int status) {
+					TransactionSynchronizationManager.unbindResourceIfPossible(ArangoTemplate.this);
+				}
+			});
+			unitOfWork = boundUnitOfWork;
+		}
+		return unitOfWork;
 	}
 
 	@Override
@@ -741,8 +1358,75 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
 			throw translateExceptionIfPossible(e);
 		}
 		databaseCache.remove(db.name());
+		writeVersions.bumpAll(db.name());
+		evictDatabase(db.name());
 		collectionCache.keySet().stream().filter(key -> key.getDb().equals(db.name()))
-				.forEach(key -> collectionCache.remove(key));
+				.map(collectionCache::remove).filter(value -> value != null).forEach(CollectionCacheValue::invalidate);
+	}
+
+	/**
+	 * Returns the write version of a collection in the current database. The version changes with every write which
+	 * is executed on the collection through this template, including AQL queries modifying documents. Writes
+	 * executed directly through the driver or by other processes are not tracked.
+	 *
+	 * @param collection
+	 *            The name of the collection
+	 * @return the current write version
+	 */
+	public long getWriteVersion(final String collection) {
+		return writeVersions.get(db().name(), collection);
+	}
+
+	/**
+	 * Returns a cursor over the documents of a query result which was read before, e.g. from a client side cache. The
+	 * documents are read like the documents of a query result, so every call returns new entities, which are
+	 * resolved within the active fetch plan, published with mapping events and tracked for dirty tracking.
+	 *
+	 * @param documents
+	 *            the documents of the query result
+	 * @param fullCount
+	 *            the full count of the query result or null
+	 * @param type
+	 *            the type of the result elements
+	 * @return a cursor over the documents
+	 */
+	public <T> ArangoCursor<T> cursor(final List<VPackSlice> documents, final Long fullCount, final Class<T> type) {
+		final VPackBuilder builder = new VPackBuilder();
+		builder.add(ValueType.OBJECT);
+		builder.add("hasMore", false);
+		builder.add("count", documents.size());
+		builder.add("extra", ValueType.OBJECT);
+		builder.add("stats", ValueType.OBJECT);
+		if (fullCount != null) {
+			builder.add("fullCount", fullCount);
+		}
+		builder.close();
+		builder.add("warnings", ValueType.ARRAY);
+		builder.close();
+		builder.close();
+		builder.add("result", ValueType.ARRAY);
+		documents.forEach(builder::add);
+		builder.close();
+		builder.close();
+		final CursorEntity result;
+		try {
+			result = arango.util().deserialize(builder.slice(), CursorEntity.class);
+		} catch (final ArangoDBException e) {
+			throw translateExceptionIfPossible(e);
+		}
+		// the whole result is given, so there are no further batches to fetch or to close
+		return new ArangoExtCursor<>((InternalArangoDatabase<?, ?>) db(), null, type, result, converter,
+				eventPublisher, dirtyTracker, referencePrefetcher, partialLoads);
+	}
+
+	@Override
+	public <T> T withFetchPlan(final String fetchPlan, final Supplier<T> operation) {
+		return FetchPlanContext.execute(fetchPlan, operation);
+	}
+
+	@Override
+	public <T> T withIdentityMap(final Supplier<T> operation) {
+		return IdentityMap.open(operation);
 	}
 
 	@Override
@@ -762,7 +1446,8 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
 	}
 
 	private CollectionOperations collection(final ArangoCollection collection) {
-		return new DefaultCollectionOperations(collection, collectionCache, exceptionTranslator);
+		return new DefaultCollectionOperations(collection, collectionCache, writeVersions, entityCache,
+				exceptionTranslator);
 	}
 
 	@Override
@@ -784,13 +1469,161 @@ public class ArangoTemplate implements ArangoOperations, CollectionCallback, App
 		return this.converter;
 	}
 
+	/**
+	 * Creates the missing collections and indexes of all entities ({@code @Document} and {@code @Edge}) known to the
+	 * mapping context, e.g. the initial entity set at startup. The existing collections are read with one request and
+	 * the existing indexes with one request per collection, only missing collections and indexes are created. The
+	 * collections are reconciled in parallel on the executor of this template. Afterwards the first operation on an
+	 * entity does not create any collection or index anymore.
+	 * 
+	 * @throws DataAccessException
+	 */
+	public void reconcileSchema() throws DataAccessException {
+		final ArangoDatabase db = db();
+		final Map<String, List<ArangoPersistentEntity<?>>> entities = converter.getMappingContext()
+				.getPersistentEntities().stream()
+				.filter(e -> e.findAnnotation(Document.class) != null || e.findAnnotation(Edge.class) != null)
+				.collect(Collectors.groupingBy((final ArangoPersistentEntity<?> e) -> e.getCollection(),
+					LinkedHashMap::new, Collectors.toList()));
+		try {
+			final Collection<String> existing = db.getCollections(new CollectionsReadOptions().excludeSystem(true))
+					.stream().map(CollectionEntity::getName).collect(Collectors.toSet());
+			CompletableFuture.allOf(entities.entrySet().stream()
+					.map(entry -> CompletableFuture.runAsync(() -> reconcileCollection(db, entry.getKey(),
+						entry.getValue(), existing.contains(entry.getKey())), executor))
+					.toArray(CompletableFuture[]::new)).join();
+		} catch (final CompletionException e) {
+			final Throwable cause = e.getCause();
+			if (cause instanceof ArangoDBException) {
+				throw translateExceptionIfPossible((ArangoDBException) cause);
+			}
+			throw cause instanceof RuntimeException ? (RuntimeException) cause : e;
+		} catch (final ArangoDBException e) {
+			throw translateExceptionIfPossible(e);
+		}
+	}
+
+	private void reconcileCollection(
+		final ArangoDatabase db,
+		final String name,
+		final Collection<ArangoPersistentEntity<?>> entities,
+		final boolean exists) {
+		final CollectionCacheValue value = collectionCache.computeIfAbsent(new CollectionCacheKey(db.name(), name),
+			key -> new CollectionCacheValue(db.collection(name)));
+		final ArangoCollection collection = value.getCollection();
+		value.initializeCollection(() -> {
+			if (!exists) {
+				collection.create(entities.iterator().next().getCollectionOptions());
+			}
+		});
+		// indexes created for one entity are not created again for another entity of the same collection
+		final Collection<IndexEntity> indexes = new ArrayList<>(
+				exists ? collection.getIndexes() : Collections.emptyList());
+		for (final ArangoPersistentEntity<?> entity : entities) {
+			value.initializeEntityClass(entity.getType(), () -> {
+				for (final IndexDefinition index : getIndexDefinitions(entity)) {
+					if (!index.isPresent(indexes)) {
+						indexes.add(index.ensure(collection(collection)));
+					}
+				}
+			});
+		}
+	}
+
+	/**
+	 * Sets the maximum number of documents read with a single request by {@link #find(Iterable, Class)}. More
+	 * documents are read in chunks of this size in parallel on the executor of this template. Defaults to
+	 * {@link BulkOptions#DEFAULT_CHUNK_SIZE}.
+	 * 
+	 * @param findChunkSize
+	 *            the maximum number of documents per request
+	 */
+	public void setFindChunkSize(final int findChunkSize) {
+		if (findChunkSize < 1) {
+			throw new IllegalArgumentException("findChunkSize must be greater than 0");
+		}
+		this.findChunkSize = findChunkSize;
+	}
+
+	/**
+	 * Sets the executor which sends the chunks of a {@link BulkWriter} and of {@link #find(Iterable, Class)} to the
+	 * server and reconciles the collections in {@link #reconcileSchema()}. The tasks block until the server responds,
+	 * so the executor should be bounded and not shared with CPU bound work. Defaults to a pool of this template with
+	 * one thread per processor, but at least two.
+	 * 
+	 * @param executor
+	 *            the executor to use
+	 */
+	public void setExecutor(final Executor executor) {
+		if (executor == null) {
+			throw new IllegalArgumentException("executor must not be null");
+		}
+		this.executor = executor;
+	}
+
+	/**
+	 * Enables the tracking of changes of loaded entities. If enabled, {@link #repsert(Object)} and
+	 * {@link #repsert(Iterable, Class)} only send the changed top level attributes of entities loaded through this
+	 * template and skip the write if nothing has changed. This costs an additional conversion of every loaded entity
+	 * and the memory for a snapshot of it as long as the entity is referenced.
+	 * 
+	 * @param dirtyTracking
+	 *            whether the tracking should be enabled
+	 */
+	public void setDirtyTracking(final boolean dirtyTracking) {
+		dirtyTracker = dirtyTracking ? new DirtyTracker(converter) : null;
+		updateCursorInitializer();
+	}
+
+	/**
+	 * Enables or disables the batch resolution of references in query results. If enabled (default), all eager
+	 * references ({@code @Ref}, {@code @From} and {@code @To} of edges) of a batch of query results are loaded with one
+	 * request per referenced collection, instead of one request per reference.
+	 * 
+	 * @param batchReferenceResolution
+	 *            whether to resolve references per batch
+	 */
+	public void setBatchReferenceResolution(final boolean batchReferenceResolution) {
+		referencePrefetcher = batchReferenceResolution ? new ReferencePrefetcher(converter, this::loadReferences)
+				: null;
+		updateCursorInitializer();
+	}
+
+	/**
+	 * Sets a second-level cache for documents read by id. Defaults to no cache.
+	 * 
+	 * @param entityCache
+	 *            the cache to use, can be null
+	 */
+	public void setEntityCache(final EntityCache entityCache) {
+		this.entityCache = entityCache;
+	}
+
+	public EntityCache getEntityCache() {
+		return entityCache;
+	}
+
+	/**
+	 * Sets a loader which merges concurrent reads by id into multi-document reads. Defaults to no loader.
+	 * 
+	 * @param coalescingLoader
+	 *            the loader to use, can be null
+	 */
+	public void setCoalescingLoader(final CoalescingLoader coalescingLoader) {
+		this.coalescingLoader = coalescingLoader;
+	}
+
+	public CoalescingLoader getCoalescingLoader() {
+		return coalescingLoader;
+	}
+
 	@Override
 	public void setApplicationContext(final ApplicationContext applicationContext) throws BeansException {
 		context.setRootObject(applicationContext);
 		context.setBeanResolver(new BeanFactoryResolver(applicationContext));
 		context.addPropertyAccessor(new BeanFactoryAccessor());
 		eventPublisher = applicationContext;
-		arango._setCursorInitializer(new ArangoCursorInitializer(converter, applicationContext));
+		updateCursorInitializer();
 	}
 
 	private void potentiallyEmitEvent(final ArangoMappingEvent<?> event) {
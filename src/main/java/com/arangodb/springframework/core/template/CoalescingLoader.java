@@ -0,0 +1,199 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2018 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.core.template;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.arangodb.ArangoCollection;
+import com.arangodb.entity.MultiDocumentEntity;
+import com.arangodb.velocypack.VPackSlice;
+
+/**
+ * Merges concurrent single-document lookups of {@link ArangoTemplate#find(Object, Class)} into one multi-document
+ * read per collection. The first lookup of a collection opens a batch and waits for the configured batch window (or
+ * until the batch reaches its maximum size), then reads all keys collected in the meantime with a single request and
+ * hands the documents to the waiting callers.
+ * <p>
+ * The batch window is added to the latency of every lookup opening a batch, so it should be small compared to the
+ * round-trip time to the server.
+ * 
+ * @author Mark Vollmary
+ *
+ */
+public class CoalescingLoader {
+
+	/**
+	 * Every batch has its own lock, so lookups of different collections do not contend with each other.
+	 */
+	private class Batch {
+
+		private final CollectionCacheKey batchKey;
+		private final ArangoCollection collection;
+		private final Map<String, CompletableFuture<VPackSlice>> keys;
+		// completed when the batch is closed before the end of its window
+		private final CompletableFuture<Void> full;
+		private boolean closed;
+
+		public Batch(final CollectionCacheKey batchKey, final ArangoCollection collection) {
+			super();
+			this.batchKey = batchKey;
+			this.collection = collection;
+			keys = new LinkedHashMap<>();
+			full = new CompletableFuture<>();
+			closed = false;
+		}
+
+		/**
+		 * @return the future of the document or null if the batch is already closed
+		 */
+		public synchronized CompletableFuture<VPackSlice> add(final String key) {
+			if (closed) {
+				return null;
+			}
+			final CompletableFuture<VPackSlice> future = keys.computeIfAbsent(key, k -> new CompletableFuture<>());
+			if (keys.size() >= maxBatchSize) {
+				close();
+			}
+			return future;
+		}
+
+		public synchronized void close() {
+			if (!closed) {
+				closed = true;
+				batches.remove(batchKey, this);
+				full.complete(null);
+			}
+		}
+
+		/**
+		 * Waits until the batch window ends or the batch is full and closes the batch.
+		 */
+		public void await() {
+			try {
+				full.get(batchWindow, TimeUnit.NANOSECONDS);
+			} catch (final TimeoutException | ExecutionException e) {
+				// the window has ended
+			} catch (final InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			close();
+		}
+
+		/**
+		 * Reads the keys of the closed batch, which are not modified anymore.
+		 */
+		public void load() {
+			requests.increment();
+			try {
+				final MultiDocumentEntity<VPackSlice> result = collection.getDocuments(keys.keySet(),
+					VPackSlice.class);
+				final Map<String, VPackSlice> documents = new HashMap<>();
+				for (final VPackSlice document : result.getDocuments()) {
+					documents.put(document.get("_key").getAsString(), document);
+				}
+				keys.forEach((key, future) -> future.complete(documents.get(key)));
+			} catch (final RuntimeException e) {
+				keys.values().forEach(future -> future.completeExceptionally(e));
+			}
+		}
+	}
+
+	private final long batchWindow;
+	private final int maxBatchSize;
+	private final ConcurrentMap<CollectionCacheKey, Batch> batches;
+	private final LongAdder lookups;
+	private final LongAdder requests;
+
+	/**
+	 * @param batchWindow
+	 *            the time a batch waits for further lookups
+	 * @param unit
+	 *            the unit of the batch window
+	 * @param maxBatchSize
+	 *            the maximum number of keys read with a single request
+	 */
+	public CoalescingLoader(final long batchWindow, final TimeUnit unit, final int maxBatchSize) {
+		super();
+		if (maxBatchSize < 1) {
+			throw new IllegalArgumentException("maxBatchSize must be greater than 0");
+		}
+		this.batchWindow = unit.toNanos(batchWindow);
+		this.maxBatchSize = maxBatchSize;
+		batches = new ConcurrentHashMap<>();
+		lookups = new LongAdder();
+		requests = new LongAdder();
+	}
+
+	/**
+	 * @return number of documents looked up through this loader
+	 */
+	public long getLookups() {
+		return lookups.sum();
+	}
+
+	/**
+	 * @return number of requests sent to the server
+	 */
+	public long getRequests() {
+		return requests.sum();
+	}
+
+	VPackSlice load(final ArangoCollection collection, final String key) {
+		lookups.increment();
+		final CollectionCacheKey batchKey = new CollectionCacheKey(collection.db().name(), collection.name());
+		CompletableFuture<VPackSlice> future = null;
+		while (future == null) {
+			Batch batch = batches.get(batchKey);
+			boolean leader = false;
+			if (batch == null) {
+				final Batch own = new Batch(batchKey, collection);
+				batch = batches.putIfAbsent(batchKey, own);
+				if (batch == null) {
+					batch = own;
+					leader = true;
+				}
+			}
+			// null if the batch was closed in the meantime, then the key is added to the next batch
+			future = batch.add(key);
+			if (leader) {
+				batch.await();
+				batch.load();
+			}
+		}
+		try {
+			return future.join();
+		} catch (final CompletionException e) {
+			final Throwable cause = e.getCause();
+			throw cause instanceof RuntimeException ? (RuntimeException) cause : e;
+		}
+	}
+
+}
@@ -1,31 +1,102 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2018 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
 package com.arangodb.springframework.core.template;
 
-import java.util.ArrayList;
-import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import com.arangodb.ArangoCollection;
 
+/**
+ * Holds the bootstrap state of a collection. The creation of the collection and the indexes of every entity class
+ * are each executed only once, concurrent callers wait for the running initialization. A failed initialization is
+ * repeated by the next caller.
+ * 
+ * @author Mark Vollmary
+ *
+ */
 class CollectionCacheValue {
 
+	private static final Object COLLECTION = new Object();
+
 	private final ArangoCollection collection;
-	private final Collection<Class<?>> entities;
+	private final ConcurrentMap<Object, CompletableFuture<Void>> initializations;
+	private volatile boolean valid;
 
 	public CollectionCacheValue(final ArangoCollection collection) {
 		super();
 		this.collection = collection;
-		this.entities = new ArrayList<>();
+		this.initializations = new ConcurrentHashMap<>(4, 0.9f, 1);
+		this.valid = true;
 	}
 
 	public ArangoCollection getCollection() {
 		return collection;
 	}
 
-	public Collection<Class<?>> getEntities() {
-		return entities;
+	/**
+	 * @return false after the value was removed from the cache, e.g. because the collection was dropped
+	 */
+	public boolean isValid() {
+		return valid;
+	}
+
+	public void invalidate() {
+		valid = false;
+	}
+
+	public void initializeCollection(final Runnable initialization) {
+		initialize(COLLECTION, initialization);
+	}
+
+	public void initializeEntityClass(final Class<?> entityClass, final Runnable initialization) {
+		initialize(entityClass, initialization);
 	}
 
-	public void addEntityClass(final Class<?> entityClass) {
-		entities.add(entityClass);
+	private void initialize(final Object key, final Runnable initialization) {
+		CompletableFuture<Void> future = initializations.get(key);
+		if (future == null) {
+			final CompletableFuture<Void> own = new CompletableFuture<>();
+			future = initializations.putIfAbsent(key, own);
+			if (future == null) {
+				try {
+					initialization.run();
+					own.complete(null);
+				} catch (final RuntimeException e) {
+					initializations.remove(key, own);
+					own.completeExceptionally(e);
+					throw e;
+				}
+				return;
+			}
+		}
+		if (!future.isDone() || future.isCompletedExceptionally()) {
+			try {
+				future.join();
+			} catch (final CompletionException e) {
+				throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+			}
+		}
 	}
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,57 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2018 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.core.template;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps a version per collection which changes with every write executed through the template. All versions are
+ * drawn from one sequence, so that a version is never reused, not even for another database or collection.
+ * 
+ * @author Mark Vollmary
+ *
+ */
+class CollectionWriteVersions {
+
+	private final AtomicLong sequence;
+	private final Map<CollectionCacheKey, Long> versions;
+
+	public CollectionWriteVersions() {
+		super();
+		sequence = new AtomicLong();
+		versions = new ConcurrentHashMap<>();
+	}
+
+	public long get(final String db, final String collection) {
+		return versions.computeIfAbsent(new CollectionCacheKey(db, collection), key -> sequence.incrementAndGet());
+	}
+
+	public void bump(final String db, final String collection) {
+		versions.put(new CollectionCacheKey(db, collection), sequence.incrementAndGet());
+	}
+
+	public void bumpAll(final String db) {
+		versions.replaceAll((key, version) -> key.getDb().equals(db) ? sequence.incrementAndGet() : version);
+	}
+
+}
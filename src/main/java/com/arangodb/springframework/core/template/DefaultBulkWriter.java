@@ -0,0 +1,360 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2018 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.core.template;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.support.PersistenceExceptionTranslator;
+
+import com.arangodb.ArangoCollection;
+import com.arangodb.ArangoDBException;
+import com.arangodb.entity.DocumentEntity;
+import com.arangodb.entity.DocumentImportEntity;
+import com.arangodb.entity.ErrorEntity;
+import com.arangodb.entity.MultiDocumentEntity;
+import com.arangodb.model.DocumentCreateOptions;
+import com.arangodb.model.DocumentImportOptions;
+import com.arangodb.model.DocumentReplaceOptions;
+import com.arangodb.model.DocumentUpdateOptions;
+import com.arangodb.springframework.core.ArangoOperations.UpsertStrategy;
+import com.arangodb.springframework.core.BulkOptions;
+import com.arangodb.springframework.core.BulkWriteException;
+import com.arangodb.springframework.core.BulkWriteResult;
+import com.arangodb.springframework.core.BulkWriter;
+import com.arangodb.springframework.core.mapping.ArangoPersistentEntity;
+import com.arangodb.springframework.core.mapping.ArangoPersistentProperty;
+import com.arangodb.velocypack.VPackSlice;
+
+/**
+ * @author Mark Vollmary
+ *
+ */
+public class DefaultBulkWriter<T> implements BulkWriter<T> {
+
+	public interface BulkCallback {
+		void beforeSave(Object value);
+
+		VPackSlice write(Object value);
+
+		void updateDBFields(Object value, String key, String id, String rev);
+
+		void assignKey(Object value, String collection);
+
+		void afterSave(Object value);
+
+		void afterWrite();
+	}
+
+	private static final String _ID = "_id";
+	private static final String _KEY = "_key";
+	private static final String _REV = "_rev";
+
+	private final ArangoCollection collection;
+	private final ArangoPersistentEntity<?> entity;
+	private final BulkOptions bulkOptions;
+	private final Executor executor;
+	private final PersistenceExceptionTranslator exceptionTranslator;
+	private final BulkCallback callback;
+
+	protected DefaultBulkWriter(final ArangoCollection collection, final ArangoPersistentEntity<?> entity,
+		final BulkOptions bulkOptions, final Executor executor,
+		final PersistenceExceptionTranslator exceptionTranslator, final BulkCallback callback) {
+		super();
+		this.collection = collection;
+		this.entity = entity;
+		this.bulkOptions = bulkOptions != null ? bulkOptions : new BulkOptions();
+		this.executor = executor;
+		this.exceptionTranslator = exceptionTranslator;
+		this.callback = callback;
+	}
+
+	private DataAccessException translateExceptionIfPossible(final RuntimeException exception) {
+		return exceptionTranslator.translateExceptionIfPossible(exception);
+	}
+
+	@Override
+	public BulkWriteResult insert(final Iterable<? extends T> values, final DocumentCreateOptions options)
+			throws DataAccessException {
+		return write(values, docs -> collection.insertDocuments(docs, options));
+	}
+
+	@Override
+	public BulkWriteResult insert(final Iterable<? extends T> values) throws DataAccessException {
+		return insert(values, new DocumentCreateOptions());
+	}
+
+	@Override
+	public BulkWriteResult update(final Iterable<? extends T> values, final DocumentUpdateOptions options)
+			throws DataAccessException {
+		return write(values, docs -> collection.updateDocuments(docs, options));
+	}
+
+	@Override
+	public BulkWriteResult update(final Iterable<? extends T> values) throws DataAccessException {
+		return update(values, new DocumentUpdateOptions());
+	}
+
+	@Override
+	public BulkWriteResult replace(final Iterable<? extends T> values, final DocumentReplaceOptions options)
+			throws DataAccessException {
+		return write(values, docs -> collection.replaceDocuments(docs, options));
+	}
+
+	@Override
+	public BulkWriteResult replace(final Iterable<? extends T> values) throws DataAccessException {
+		return replace(values, new DocumentReplaceOptions());
+	}
+
+	@Override
+	public BulkWriteResult upsert(
+		final Iterable<? extends T> values,
+		final UpsertStrategy strategy,
+		final String... matchProperties) throws DataAccessException {
+
+		final String query = buildUpsertQuery(strategy, matchProperties);
+		final boolean updateDBFields = bulkOptions.getUpdateDBFields();
+		final long[] documents = new long[] { 0 };
+		final int chunks = execute(values, value -> {
+		}, docs -> {
+			final Map<String, Object> bindVars = new HashMap<>();
+			bindVars.put("docs", docs);
+			bindVars.put("@collection", collection.name());
+			return collection.db().query(query, bindVars, null, VPackSlice.class).asListRemaining();
+		}, (chunk, res) -> {
+			final Iterator<T> valueIterator = chunk.iterator();
+			final Iterator<VPackSlice> documentIterator = res.iterator();
+			while (valueIterator.hasNext() && documentIterator.hasNext()) {
+				final T nextValue = valueIterator.next();
+				final VPackSlice nextDoc = documentIterator.next();
+				if (updateDBFields) {
+					callback.updateDBFields(nextValue, nextDoc.get(_KEY).getAsString(),
+						nextDoc.get(_ID).getAsString(), nextDoc.get(_REV).getAsString());
+				}
+				callback.afterSave(nextValue);
+				documents[0]++;
+			}
+		});
+		return new BulkWriteResult(documents[0], Collections.emptyList(), chunks);
+	}
+
+	private String buildUpsertQuery(final UpsertStrategy strategy, final String... matchProperties) {
+		final String search = (matchProperties == null || matchProperties.length == 0 ? Stream.of(_KEY)
+				: Stream.of(matchProperties).map(this::getFieldName))
+						.map(field -> String.format("`%1$s`: doc.`%1$s`", field)).collect(Collectors.joining(", "));
+		final String action = strategy == UpsertStrategy.UPDATE ? "UPDATE" : "REPLACE";
+		return String.format(
+			"FOR doc IN @docs UPSERT { %s } INSERT doc %s doc IN @@collection RETURN { %s: NEW.%s, %s: NEW.%s, %s: NEW.%s }",
+			search, action, _KEY, _KEY, _ID, _ID, _REV, _REV);
+	}
+
+	private String getFieldName(final String property) {
+		if (property.indexOf('`') >= 0) {
+			throw new IllegalArgumentException("Invalid match property: " + property);
+		}
+		final ArangoPersistentProperty persistentProperty = entity.getPersistentProperty(property);
+		return persistentProperty != null ? persistentProperty.getFieldName() : property;
+	}
+
+	@Override
+	public DocumentImportEntity importDocuments(final Iterable<? extends T> values, final DocumentImportOptions options)
+			throws DataAccessException {
+		final DocumentImportEntity result = new DocumentImportEntity();
+		result.setCreated(0);
+		result.setErrors(0);
+		result.setEmpty(0);
+		result.setUpdated(0);
+		result.setIgnored(0);
+		result.setDetails(new ArrayList<>());
+		final boolean updateDBFields = bulkOptions.getUpdateDBFields();
+		final String collectionName = collection.name();
+		execute(values, value -> {
+			if (updateDBFields) {
+				callback.assignKey(value, collectionName);
+			}
+		}, docs -> collection.importDocuments(docs, options), (chunk, res) -> {
+			result.setCreated(result.getCreated() + valueOf(res.getCreated()));
+			result.setErrors(result.getErrors() + valueOf(res.getErrors()));
+			result.setEmpty(result.getEmpty() + valueOf(res.getEmpty()));
+			result.setUpdated(result.getUpdated() + valueOf(res.getUpdated()));
+			result.setIgnored(result.getIgnored() + valueOf(res.getIgnored()));
+			if (res.getDetails() != null) {
+				result.getDetails().addAll(res.getDetails());
+			}
+		});
+		return result;
+	}
+
+	private static int valueOf(final Integer value) {
+		return value != null ? value : 0;
+	}
+
+	private BulkWriteResult write(
+		final Iterable<? extends T> values,
+		final Function<Collection<VPackSlice>, MultiDocumentEntity<? extends DocumentEntity>> request) {
+
+		final Collection<ErrorEntity> errors = new ArrayList<>();
+		final long[] documents = new long[] { 0 };
+		final int chunks = execute(values, value -> {
+		}, request, (chunk, res) -> documents[0] += complete(chunk, res, errors));
+		return new BulkWriteResult(documents[0], errors, chunks);
+	}
+
+	/**
+	 * Converts the next chunk on the calling thread while up to {@link BulkOptions#getParallelism()} chunks are sent
+	 * to the server on the executor. The results of the chunks are handled in order on the calling thread, so mapping
+	 * events are always published from there. If a chunk fails, the chunks not yet sent are skipped, the chunks
+	 * already sent are awaited and a {@link BulkWriteException} with the written chunks is thrown.
+	 */
+	private <R> int execute(
+		final Iterable<? extends T> values,
+		final Consumer<T> prepare,
+		final Function<Collection<VPackSlice>, R> request,
+		final BiConsumer<List<T>, R> completion) {
+
+		final Iterator<? extends T> iterator = values.iterator();
+		final int chunkSize = bulkOptions.getChunkSize();
+		final int parallelism = bulkOptions.getParallelism();
+		final Deque<Chunk<T, R>> pending = new ArrayDeque<>(parallelism);
+		final List<Integer> written = new ArrayList<>();
+		final AtomicBoolean aborted = new AtomicBoolean(false);
+		int chunks = 0;
+		try {
+			while (iterator.hasNext()) {
+				final List<T> chunk = new ArrayList<>(chunkSize);
+				final Collection<VPackSlice> docs = new ArrayList<>(chunkSize);
+				while (iterator.hasNext() && chunk.size() < chunkSize) {
+					final T value = iterator.next();
+					callback.beforeSave(value);
+					prepare.accept(value);
+					chunk.add(value);
+					docs.add(callback.write(value));
+				}
+				if (pending.size() >= parallelism) {
+					completeChunk(pending.poll(), completion, written);
+				}
+				pending.add(new Chunk<>(chunks, chunk, CompletableFuture.supplyAsync(() -> {
+					if (aborted.get()) {
+						throw new CancellationException();
+					}
+					return request.apply(docs);
+				}, executor)));
+				chunks++;
+			}
+			while (!pending.isEmpty()) {
+				completeChunk(pending.poll(), completion, written);
+			}
+		} catch (final RuntimeException e) {
+			aborted.set(true);
+			// the requests already sent can not be revoked, so their results are still handled
+			for (final Chunk<T, R> chunk : pending) {
+				try {
+					completeChunk(chunk, completion, written);
+				} catch (final RuntimeException ignored) {
+				}
+			}
+			final RuntimeException cause = unwrap(e);
+			throw new BulkWriteException(
+					String.format("Bulk write failed after %s of %s chunks were written: %s", written.size(), chunks,
+						cause.getMessage()),
+					cause, written);
+		} finally {
+			callback.afterWrite();
+		}
+		return chunks;
+	}
+
+	private <R> void completeChunk(
+		final Chunk<T, R> chunk,
+		final BiConsumer<List<T>, R> completion,
+		final List<Integer> written) {
+		completion.accept(chunk.values, chunk.result.join());
+		written.add(chunk.index);
+	}
+
+	private RuntimeException unwrap(final RuntimeException e) {
+		final Throwable cause = e instanceof CompletionException ? e.getCause() : e;
+		if (cause instanceof ArangoDBException) {
+			final DataAccessException translated = translateExceptionIfPossible((ArangoDBException) cause);
+			return translated != null ? translated : (ArangoDBException) cause;
+		}
+		return cause instanceof RuntimeException ? (RuntimeException) cause : e;
+	}
+
+	private static class Chunk<T, R> {
+		private final int index;
+		private final List<T> values;
+		private final CompletableFuture<R> result;
+
+		public Chunk(final int index, final List<T> values, final CompletableFuture<R> result) {
+			super();
+			this.index = index;
+			this.values = values;
+			this.result = result;
+		}
+	}
+
+	private int complete(
+		final List<T> values,
+		final MultiDocumentEntity<? extends DocumentEntity> result,
+		final Collection<ErrorEntity> errors) {
+
+		int documents = 0;
+		final boolean updateDBFields = bulkOptions.getUpdateDBFields();
+		final Iterator<T> valueIterator = values.iterator();
+		final Iterator<Object> documentIterator = result.getDocumentsAndErrors().iterator();
+		while (valueIterator.hasNext() && documentIterator.hasNext()) {
+			final Object nextDoc = documentIterator.next();
+			final T nextValue = valueIterator.next();
+			if (nextDoc instanceof DocumentEntity) {
+				if (updateDBFields) {
+					final DocumentEntity documentEntity = (DocumentEntity) nextDoc;
+					callback.updateDBFields(nextValue, documentEntity.getKey(), documentEntity.getId(),
+						documentEntity.getRev());
+				}
+				callback.afterSave(nextValue);
+				documents++;
+			} else if (nextDoc instanceof ErrorEntity) {
+				errors.add((ErrorEntity) nextDoc);
+			}
+		}
+		return documents;
+	}
+
+}
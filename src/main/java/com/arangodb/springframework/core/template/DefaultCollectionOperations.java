@@ -46,16 +46,35 @@ public class DefaultCollectionOperations implements CollectionOperations {
 
 	private final ArangoCollection collection;
 	private final Map<CollectionCacheKey, CollectionCacheValue> collectionCache;
+	private final CollectionWriteVersions writeVersions;
+	private final EntityCache entityCache;
 	private final PersistenceExceptionTranslator exceptionTranslator;
 
 	protected DefaultCollectionOperations(final ArangoCollection collection,
 		final Map<CollectionCacheKey, CollectionCacheValue> collectionCache,
+		final CollectionWriteVersions writeVersions, final EntityCache entityCache,
 		final PersistenceExceptionTranslator exceptionTranslator) {
 		this.collection = collection;
 		this.collectionCache = collectionCache;
+		this.writeVersions = writeVersions;
+		this.entityCache = entityCache;
 		this.exceptionTranslator = exceptionTranslator;
 	}
 
+	private void bumpWriteVersion() {
+		writeVersions.bump(collection.db().name(), collection.name());
+	}
+
+	/**
+	 * Removes all documents of the collection from the entity cache. Called after the write version is bumped, so that
+	 * a concurrent read can not put an outdated document afterwards.
+	 */
+	private void evictDocuments() {
+		if (entityCache != null) {
+			entityCache.evictByPrefix(EntityCache.key(collection.db().name(), collection.name() + "/"));
+		}
+	}
+
 	private DataAccessException translateExceptionIfPossible(final RuntimeException exception) {
 		return exceptionTranslator.translateExceptionIfPossible(exception);
 	}
@@ -67,11 +86,18 @@ public class DefaultCollectionOperations implements CollectionOperations {
 
 	@Override
 	public void drop() throws DataAccessException {
-		collectionCache.remove(new CollectionCacheKey(collection.db().name(), collection.name()));
+		final CollectionCacheValue value = collectionCache
+				.remove(new CollectionCacheKey(collection.db().name(), collection.name()));
+		if (value != null) {
+			value.invalidate();
+		}
 		try {
 			collection.drop();
 		} catch (final ArangoDBException e) {
 			throw translateExceptionIfPossible(e);
+		} finally {
+			bumpWriteVersion();
+			evictDocuments();
 		}
 	}
 
@@ -81,6 +107,9 @@ public class DefaultCollectionOperations implements CollectionOperations {
 			collection.truncate();
 		} catch (final ArangoDBException e) {
 			throw translateExceptionIfPossible(e);
+		} finally {
+			bumpWriteVersion();
+			evictDocuments();
 		}
 	}
 
@@ -0,0 +1,162 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2018 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.core.template;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.dao.DataAccessException;
+
+import com.arangodb.entity.DocumentEntity;
+import com.arangodb.entity.ErrorEntity;
+import com.arangodb.entity.MultiDocumentEntity;
+import com.arangodb.springframework.core.ArangoOperations;
+import com.arangodb.springframework.core.BulkWriteResult;
+import com.arangodb.springframework.core.UnitOfWork;
+import com.arangodb.springframework.core.mapping.ArangoPersistentEntity;
+import com.arangodb.springframework.core.util.MetadataUtils;
+
+/**
+ * @author Mark Vollmary
+ *
+ */
+public class DefaultUnitOfWork implements UnitOfWork {
+
+	private static class Batch {
+		private final Set<Object> inserts = Collections.newSetFromMap(new IdentityHashMap<>());
+		private final Collection<Object> insertOrder = new ArrayList<>();
+		private final Map<String, Object> updates = new LinkedHashMap<>();
+		private final Set<Object> deletes = new LinkedHashSet<>();
+	}
+
+	private final ArangoOperations operations;
+	private final boolean transactional;
+	private final Map<Class<?>, Batch> batches;
+
+	protected DefaultUnitOfWork(final ArangoOperations operations, final boolean transactional) {
+		super();
+		this.operations = operations;
+		this.transactional = transactional;
+		batches = new LinkedHashMap<>();
+	}
+
+	private Batch batch(final Class<?> entityClass) {
+		return batches.computeIfAbsent(entityClass, type -> new Batch());
+	}
+
+	private String getKey(final Object value) {
+		final ArangoPersistentEntity<?> entity = operations.getConverter().getMappingContext()
+				.getRequiredPersistentEntity(value.getClass());
+		final Object id = entity.getIdentifierAccessor(value).getIdentifier();
+		if (id == null) {
+			throw new IllegalArgumentException("Entity " + value + " has no id!");
+		}
+		return convertKey(id);
+	}
+
+	private String convertKey(final Object id) {
+		return MetadataUtils.determineDocumentKeyFromId(operations.getConverter().convertId(id));
+	}
+
+	@Override
+	public void insert(final Object value) {
+		final Batch batch = batch(value.getClass());
+		if (batch.inserts.add(value)) {
+			batch.insertOrder.add(value);
+		}
+	}
+
+	@Override
+	public void update(final Object value) {
+		final Batch batch = batch(value.getClass());
+		if (batch.inserts.contains(value)) {
+			// the pending insert already writes the current state
+			return;
+		}
+		batch.updates.put(getKey(value), value);
+	}
+
+	@Override
+	public void delete(final Object value) {
+		final Batch batch = batch(value.getClass());
+		final String key = getKey(value);
+		batch.updates.remove(key);
+		batch.deletes.add(key);
+	}
+
+	@Override
+	public void delete(final Object id, final Class<?> entityClass) {
+		final Batch batch = batch(entityClass);
+		final String key = convertKey(id);
+		batch.updates.remove(key);
+		batch.deletes.add(key);
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	@Override
+	public BulkWriteResult flush() throws DataAccessException {
+		final Collection<ErrorEntity> errors = new ArrayList<>();
+		long documents = 0;
+		int requests = 0;
+		final Iterator<Map.Entry<Class<?>, Batch>> iterator = batches.entrySet().iterator();
+		while (iterator.hasNext()) {
+			final Map.Entry<Class<?>, Batch> entry = iterator.next();
+			final Class entityClass = entry.getKey();
+			final Batch batch = entry.getValue();
+			iterator.remove();
+			if (!batch.insertOrder.isEmpty()) {
+				documents += count(operations.insert(batch.insertOrder, entityClass), errors);
+				requests++;
+			}
+			if (!batch.updates.isEmpty()) {
+				documents += count(operations.update(batch.updates.values(), entityClass), errors);
+				requests++;
+			}
+			if (!batch.deletes.isEmpty()) {
+				documents += count(operations.delete(batch.deletes, entityClass), errors);
+				requests++;
+			}
+		}
+		return new BulkWriteResult(documents, errors, requests);
+	}
+
+	private static int count(
+		final MultiDocumentEntity<? extends DocumentEntity> result,
+		final Collection<ErrorEntity> errors) {
+		errors.addAll(result.getErrors());
+		return result.getDocuments().size();
+	}
+
+	@Override
+	public void close() throws DataAccessException {
+		if (!transactional) {
+			flush();
+		}
+	}
+
+}
@@ -0,0 +1,170 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2018 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.core.template;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.arangodb.springframework.core.convert.ArangoConverter;
+import com.arangodb.springframework.core.util.IdentityReference;
+import com.arangodb.velocypack.VPackBuilder;
+import com.arangodb.velocypack.VPackSlice;
+import com.arangodb.velocypack.ValueType;
+
+/**
+ * Keeps a snapshot of the written representation of loaded entities to compute the changed top level attributes on
+ * save. Entities are tracked by identity and weakly referenced, so tracking does not prevent garbage collection.
+ * 
+ * @author Mark Vollmary
+ *
+ */
+class DirtyTracker {
+
+	private static final String _ID = "_id";
+	private static final String _KEY = "_key";
+	private static final String _REV = "_rev";
+
+	private final ArangoConverter converter;
+	private final Map<IdentityReference, VPackSlice> snapshots;
+	private final ReferenceQueue<Object> queue;
+
+	public DirtyTracker(final ArangoConverter converter) {
+		super();
+		this.converter = converter;
+		snapshots = new ConcurrentHashMap<>();
+		queue = new ReferenceQueue<>();
+	}
+
+	/**
+	 * Takes a snapshot of the given entity, if it is a persistent entity.
+	 */
+	public void track(final Object entity) {
+		if (entity != null && converter.getMappingContext().hasPersistentEntityFor(entity.getClass())) {
+			track(entity, converter.write(entity));
+		}
+	}
+
+	public void track(final Object entity, final VPackSlice document) {
+		expunge();
+		snapshots.put(new IdentityReference(entity, queue), document);
+	}
+
+	/**
+	 * Takes a new snapshot of the given entity, if it is already tracked.
+	 */
+	public void refresh(final Object entity) {
+		if (isTracked(entity)) {
+			track(entity, converter.write(entity));
+		}
+	}
+
+	public boolean isTracked(final Object entity) {
+		return snapshots.containsKey(new IdentityReference(entity, null));
+	}
+
+	public void untrack(final Object entity) {
+		snapshots.remove(new IdentityReference(entity, null));
+	}
+
+	/**
+	 * Computes the changes of the given document against the snapshot of the entity. Attributes missing in the document
+	 * are contained as {@code null}, so they are removed by an update with {@code keepNull(false)}.
+	 * 
+	 * @param entity
+	 *            the tracked entity
+	 * @param document
+	 *            the current written representation of the entity
+	 * @return an object with the changed attributes and {@code _key} of the document, or {@code null} if the entity is
+	 *         not tracked
+	 */
+	public VPackSlice getChanges(final Object entity, final VPackSlice document) {
+		final VPackSlice snapshot = snapshots.get(new IdentityReference(entity, null));
+		if (snapshot == null) {
+			return null;
+		}
+		final VPackBuilder builder = new VPackBuilder();
+		builder.add(ValueType.OBJECT);
+		final VPackSlice key = document.get(_KEY);
+		if (key.isString()) {
+			builder.add(_KEY, key);
+		}
+		for (final Iterator<Entry<String, VPackSlice>> iterator = document.objectIterator(); iterator.hasNext();) {
+			final Entry<String, VPackSlice> next = iterator.next();
+			final String attribute = next.getKey();
+			if (isSystemAttribute(attribute)) {
+				continue;
+			}
+			final VPackSlice old = snapshot.get(attribute);
+			if (old.isNone() || !equals(old, next.getValue())) {
+				builder.add(attribute, next.getValue());
+			}
+		}
+		for (final Iterator<Entry<String, VPackSlice>> iterator = snapshot.objectIterator(); iterator.hasNext();) {
+			final String attribute = iterator.next().getKey();
+			if (!isSystemAttribute(attribute) && document.get(attribute).isNone()) {
+				builder.add(attribute, ValueType.NULL);
+			}
+		}
+		builder.close();
+		return builder.slice();
+	}
+
+	/**
+	 * @return whether the given changes contain any attribute except {@code _key}
+	 */
+	public static boolean hasChanges(final VPackSlice changes) {
+		final int length = changes.getLength();
+		return length > 1 || (length == 1 && changes.get(_KEY).isNone());
+	}
+
+	private static boolean isSystemAttribute(final String attribute) {
+		return _KEY.equals(attribute) || _ID.equals(attribute) || _REV.equals(attribute);
+	}
+
+	private static boolean equals(final VPackSlice a, final VPackSlice b) {
+		final int size = a.getByteSize();
+		if (size != b.getByteSize()) {
+			return false;
+		}
+		final byte[] bufferA = a.getBuffer();
+		final byte[] bufferB = b.getBuffer();
+		final int startA = a.getStart();
+		final int startB = b.getStart();
+		for (int i = 0; i < size; i++) {
+			if (bufferA[startA + i] != bufferB[startB + i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private void expunge() {
+		Reference<?> reference;
+		while ((reference = queue.poll()) != null) {
+			snapshots.remove(reference);
+		}
+	}
+
+}
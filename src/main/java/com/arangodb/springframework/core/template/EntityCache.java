@@ -0,0 +1,291 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2018 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.core.template;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.arangodb.velocypack.VPackSlice;
+
+/**
+ * Second-level cache for documents read by id through {@link ArangoTemplate#find(Object, Class)}. Every entity class
+ * has its own region with a maximum number of documents, which are evicted in least recently used order and expire
+ * after the configured time to live. The cache holds the documents in their stored form, so every read returns a new
+ * entity instance.
+ * <p>
+ * Writes and deletes through the template invalidate the affected documents, truncating or dropping a collection all
+ * of its documents and an AQL modification query executed by the template all documents of the database. Writes
+ * bypassing the template (e.g. other clients) are not visible to the cache in {@link Mode#TRUST}, which limits the
+ * staleness to the time to live. In {@link Mode#VALIDATE} every hit is validated against the current revision of the
+ * document on the server.
+ * 
+ * @author Mark Vollmary
+ *
+ */
+public class EntityCache {
+
+	public enum Mode {
+		/**
+		 * Cached documents are returned without contacting the server.
+		 */
+		TRUST,
+		/**
+		 * Cached documents are validated with a conditional read ({@code If-None-Match}), which returns an empty response
+		 * if the document has not changed.
+		 */
+		VALIDATE
+	}
+
+	public static class Statistics {
+
+		private final long hits;
+		private final long misses;
+		private final long evictions;
+		private final long size;
+
+		public Statistics(final long hits, final long misses, final long evictions, final long size) {
+			super();
+			this.hits = hits;
+			this.misses = misses;
+			this.evictions = evictions;
+			this.size = size;
+		}
+
+		/**
+		 * @return number of reads served from the cache
+		 */
+		public long getHits() {
+			return hits;
+		}
+
+		/**
+		 * @return number of reads which had to load the document from the server
+		 */
+		public long getMisses() {
+			return misses;
+		}
+
+		/**
+		 * @return number of documents evicted because of the maximum size or the time to live
+		 */
+		public long getEvictions() {
+			return evictions;
+		}
+
+		/**
+		 * @return number of currently cached documents
+		 */
+		public long getSize() {
+			return size;
+		}
+
+	}
+
+	static class Entry {
+
+		private final VPackSlice document;
+		private final String rev;
+		private volatile long expires;
+
+		private Entry(final VPackSlice document, final String rev, final long expires) {
+			super();
+			this.document = document;
+			this.rev = rev;
+			this.expires = expires;
+		}
+
+		public VPackSlice getDocument() {
+			return document;
+		}
+
+		public String getRev() {
+			return rev;
+		}
+
+	}
+
+	private class Region {
+
+		private final Map<String, Entry> entries;
+		private final LongAdder hits = new LongAdder();
+		private final LongAdder misses = new LongAdder();
+		private final LongAdder evictions = new LongAdder();
+
+		public Region() {
+			super();
+			entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				protected boolean removeEldestEntry(final Map.Entry<String, EntityCache.Entry> eldest) {
+					final boolean remove = size() > maxSize;
+					if (remove) {
+						evictions.increment();
+					}
+					return remove;
+				}
+			};
+		}
+
+		public synchronized Entry get(final String key) {
+			final Entry entry = entries.get(key);
+			if (entry != null && entry.expires - System.nanoTime() < 0) {
+				entries.remove(key);
+				evictions.increment();
+				return null;
+			}
+			return entry;
+		}
+
+		public synchronized void put(final String key, final Entry entry) {
+			entries.put(key, entry);
+		}
+
+		public synchronized void remove(final String key) {
+			entries.remove(key);
+		}
+
+		public synchronized void removeByPrefix(final String prefix) {
+			for (final Iterator<String> iterator = entries.keySet().iterator(); iterator.hasNext();) {
+				if (iterator.next().startsWith(prefix)) {
+					iterator.remove();
+				}
+			}
+		}
+
+		public synchronized void clear() {
+			entries.clear();
+		}
+
+		public synchronized Statistics getStatistics() {
+			return new Statistics(hits.sum(), misses.sum(), evictions.sum(), entries.size());
+		}
+
+	}
+
+	private final int maxSize;
+	private final long timeToLive;
+	private final Mode mode;
+	private final Map<Class<?>, Region> regions;
+
+	/**
+	 * @param maxSize
+	 *            The maximum number of documents per entity class
+	 * @param timeToLive
+	 *            The time after which a cached document expires
+	 * @param unit
+	 *            The unit of {@code timeToLive}
+	 * @param mode
+	 *            Whether cached documents are trusted or validated against the server
+	 */
+	public EntityCache(final int maxSize, final long timeToLive, final TimeUnit unit, final Mode mode) {
+		super();
+		if (maxSize < 1) {
+			throw new IllegalArgumentException("maxSize must be greater than 0");
+		}
+		this.maxSize = maxSize;
+		this.timeToLive = unit.toNanos(timeToLive);
+		this.mode = mode;
+		regions = new ConcurrentHashMap<>();
+	}
+
+	public Mode getMode() {
+		return mode;
+	}
+
+	private Region region(final Class<?> entityClass) {
+		return regions.computeIfAbsent(entityClass, type -> new Region());
+	}
+
+	static String key(final String db, final String id) {
+		return db + ':' + id;
+	}
+
+	Entry get(final Class<?> entityClass, final String key) {
+		return region(entityClass).get(key);
+	}
+
+	void put(final Class<?> entityClass, final String key, final VPackSlice document, final String rev) {
+		region(entityClass).put(key, new Entry(document, rev, System.nanoTime() + timeToLive));
+	}
+
+	void touch(final Entry entry) {
+		entry.expires = System.nanoTime() + timeToLive;
+	}
+
+	void hit(final Class<?> entityClass) {
+		region(entityClass).hits.increment();
+	}
+
+	void miss(final Class<?> entityClass) {
+		region(entityClass).misses.increment();
+	}
+
+	/**
+	 * Removes the document with the given key from all regions, as several entity classes can share a collection.
+	 */
+	void evict(final String key) {
+		regions.values().forEach(region -> region.remove(key));
+	}
+
+	void evictByPrefix(final String prefix) {
+		regions.values().forEach(region -> region.removeByPrefix(prefix));
+	}
+
+	/**
+	 * Removes all documents from the cache. The statistics are kept.
+	 */
+	public void clear() {
+		regions.values().forEach(Region::clear);
+	}
+
+	/**
+	 * @param entityClass
+	 *            The entity class of the region
+	 * @return the statistics of the region of the given entity class
+	 */
+	public Statistics getStatistics(final Class<?> entityClass) {
+		return region(entityClass).getStatistics();
+	}
+
+	/**
+	 * @return the summed up statistics of all regions
+	 */
+	public Statistics getStatistics() {
+		long hits = 0;
+		long misses = 0;
+		long evictions = 0;
+		long size = 0;
+		for (final Region region : regions.values()) {
+			final Statistics statistics = region.getStatistics();
+			hits += statistics.getHits();
+			misses += statistics.getMisses();
+			evictions += statistics.getEvictions();
+			size += statistics.getSize();
+		}
+		return new Statistics(hits, misses, evictions, size);
+	}
+
+}
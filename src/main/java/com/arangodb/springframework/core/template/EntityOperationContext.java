@@ -0,0 +1,87 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2018 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.core.template;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.arangodb.springframework.core.mapping.ArangoPersistentEntity;
+import com.arangodb.springframework.core.mapping.ArangoPersistentProperty;
+
+/**
+ * Metadata of an entity class resolved once for all operations of the template, together with the collections
+ * resolved by previous operations per database and collection name. Every operation on a database and collection
+ * (e.g. of one tenant) after the first one reuses the bootstrapped collection without further lookups.
+ * 
+ * @author Mark Vollmary
+ *
+ */
+class EntityOperationContext {
+
+	private final ArangoPersistentEntity<?> entity;
+	private final ArangoPersistentProperty idProperty;
+	private final ArangoPersistentProperty arangoIdProperty;
+	private final ArangoPersistentProperty revProperty;
+	private final Map<CollectionCacheKey, CollectionCacheValue> collections;
+
+	public EntityOperationContext(final ArangoPersistentEntity<?> entity) {
+		super();
+		this.entity = entity;
+		idProperty = entity.getIdProperty();
+		arangoIdProperty = entity.getArangoIdProperty().orElse(null);
+		revProperty = entity.getRevProperty().orElse(null);
+		collections = new ConcurrentHashMap<>(4, 0.9f, 1);
+	}
+
+	public ArangoPersistentEntity<?> getEntity() {
+		return entity;
+	}
+
+	public ArangoPersistentProperty getIdProperty() {
+		return idProperty;
+	}
+
+	public ArangoPersistentProperty getArangoIdProperty() {
+		return arangoIdProperty;
+	}
+
+	public ArangoPersistentProperty getRevProperty() {
+		return revProperty;
+	}
+
+	/**
+	 * @param db
+	 *            name of the database of the operation
+	 * @param collection
+	 *            name of the collection of the operation
+	 * @return the collection resolved by a previous operation with the same names or null, if the collection has to
+	 *         be resolved (again)
+	 */
+	public CollectionCacheValue getCollection(final String db, final String collection) {
+		final CollectionCacheValue value = collections.get(new CollectionCacheKey(db, collection));
+		return value != null && value.isValid() ? value : null;
+	}
+
+	public void setCollection(final String db, final String collection, final CollectionCacheValue value) {
+		collections.put(new CollectionCacheKey(db, collection), value);
+	}
+
+}
@@ -0,0 +1,140 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2018 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.core.template;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+import com.arangodb.entity.IndexEntity;
+import com.arangodb.entity.IndexType;
+import com.arangodb.model.FulltextIndexOptions;
+import com.arangodb.model.GeoIndexOptions;
+import com.arangodb.model.HashIndexOptions;
+import com.arangodb.model.PersistentIndexOptions;
+import com.arangodb.model.SkiplistIndexOptions;
+import com.arangodb.springframework.core.CollectionOperations;
+
+/**
+ * An index declared on an entity, which can be compared with the indexes already existing in the collection.
+ * 
+ * @author Mark Vollmary
+ *
+ */
+class IndexDefinition {
+
+	private final IndexType type;
+	private final List<String> fields;
+	private final boolean unique;
+	private final boolean sparse;
+	private final boolean geoJson;
+	private final Integer minLength;
+	private final Function<CollectionOperations, IndexEntity> ensure;
+
+	private IndexDefinition(final IndexType type, final Collection<String> fields, final boolean unique,
+		final boolean sparse, final boolean geoJson, final Integer minLength,
+		final Function<CollectionOperations, IndexEntity> ensure) {
+		super();
+		this.type = type;
+		this.fields = new ArrayList<>(fields);
+		this.unique = unique;
+		this.sparse = sparse;
+		this.geoJson = geoJson;
+		this.minLength = minLength;
+		this.ensure = ensure;
+	}
+
+	public static IndexDefinition hash(
+		final Collection<String> fields,
+		final boolean unique,
+		final boolean sparse,
+		final boolean deduplicate) {
+		return new IndexDefinition(IndexType.hash, fields, unique, sparse, false, null,
+				c -> c.ensureHashIndex(fields,
+					new HashIndexOptions().unique(unique).sparse(sparse).deduplicate(deduplicate)));
+	}
+
+	public static IndexDefinition skiplist(
+		final Collection<String> fields,
+		final boolean unique,
+		final boolean sparse,
+		final boolean deduplicate) {
+		return new IndexDefinition(IndexType.skiplist, fields, unique, sparse, false, null,
+				c -> c.ensureSkiplistIndex(fields,
+					new SkiplistIndexOptions().unique(unique).sparse(sparse).deduplicate(deduplicate)));
+	}
+
+	public static IndexDefinition persistent(final Collection<String> fields, final boolean unique, final boolean sparse) {
+		return new IndexDefinition(IndexType.persistent, fields, unique, sparse, false, null,
+				c -> c.ensurePersistentIndex(fields, new PersistentIndexOptions().unique(unique).sparse(sparse)));
+	}
+
+	public static IndexDefinition geo(final Collection<String> fields, final boolean geoJson) {
+		return new IndexDefinition(IndexType.geo, fields, false, false, geoJson, null,
+				c -> c.ensureGeoIndex(fields, new GeoIndexOptions().geoJson(geoJson)));
+	}
+
+	public static IndexDefinition fulltext(final Collection<String> fields, final int minLength) {
+		final Integer length = minLength > -1 ? minLength : null;
+		return new IndexDefinition(IndexType.fulltext, fields, false, false, false, length,
+				c -> c.ensureFulltextIndex(fields, new FulltextIndexOptions().minLength(length)));
+	}
+
+	/**
+	 * @param collection
+	 *            the collection to create the index in
+	 * @return the created or already existing index
+	 */
+	public IndexEntity ensure(final CollectionOperations collection) {
+		return ensure.apply(collection);
+	}
+
+	/**
+	 * @param indexes
+	 *            the existing indexes of the collection
+	 * @return whether one of the existing indexes matches this definition
+	 */
+	public boolean isPresent(final Collection<IndexEntity> indexes) {
+		return indexes.stream().anyMatch(this::matches);
+	}
+
+	private boolean matches(final IndexEntity index) {
+		if (normalize(index.getType()) != type || index.getFields() == null
+				|| !fields.equals(new ArrayList<>(index.getFields()))) {
+			return false;
+		}
+		if (type == IndexType.geo) {
+			return geoJson == Boolean.TRUE.equals(index.getGeoJson());
+		}
+		if (type == IndexType.fulltext) {
+			return minLength == null || Objects.equals(minLength, index.getMinLength());
+		}
+		return unique == Boolean.TRUE.equals(index.getUnique()) && sparse == Boolean.TRUE.equals(index.getSparse());
+	}
+
+	private static IndexType normalize(final IndexType type) {
+		// servers before 3.4 report geo indexes with one or two fields as geo1 or geo2
+		return type == IndexType.geo1 || type == IndexType.geo2 ? IndexType.geo : type;
+	}
+
+}
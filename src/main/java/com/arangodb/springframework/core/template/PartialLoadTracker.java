@@ -0,0 +1,118 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2018 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.core.template;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.data.mapping.Association;
+
+import com.arangodb.springframework.core.convert.ArangoConverter;
+import com.arangodb.springframework.core.mapping.ArangoPersistentEntity;
+import com.arangodb.springframework.core.mapping.ArangoPersistentProperty;
+import com.arangodb.springframework.core.mapping.FetchMode;
+import com.arangodb.springframework.core.mapping.FetchPlanContext;
+import com.arangodb.springframework.core.util.IdentityReference;
+
+/**
+ * Remembers loaded entities which lack stored attributes of their document, because the active fetch plan skipped a
+ * {@code @Ref} or the {@code _from}/{@code _to} of an edge. Replacing the document with such an entity would remove
+ * these attributes, so it has to be written as partial update. Entities are tracked by identity and weakly
+ * referenced.
+ * 
+ * @author Mark Vollmary
+ *
+ */
+class PartialLoadTracker {
+
+	private final ArangoConverter converter;
+	private final Map<IdentityReference, Boolean> entities;
+	private final ReferenceQueue<Object> queue;
+	// entity class -> fetch plan -> whether the plan skips a stored attribute
+	private final Map<Class<?>, Map<String, Boolean>> skipsStoredAttribute;
+
+	public PartialLoadTracker(final ArangoConverter converter) {
+		super();
+		this.converter = converter;
+		entities = new ConcurrentHashMap<>();
+		queue = new ReferenceQueue<>();
+		skipsStoredAttribute = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Tracks the given entity, if it was read with a fetch plan which skips a stored attribute of it.
+	 */
+	public void trackIfPartial(final Object entity) {
+		final String fetchPlan = FetchPlanContext.current();
+		if (fetchPlan == null || entity == null) {
+			return;
+		}
+		final Boolean skips = skipsStoredAttribute.computeIfAbsent(entity.getClass(), c -> new ConcurrentHashMap<>())
+				.computeIfAbsent(fetchPlan, plan -> skipsStoredAttribute(entity.getClass()));
+		if (skips) {
+			track(entity);
+		}
+	}
+
+	public void track(final Object entity) {
+		expunge();
+		entities.put(new IdentityReference(entity, queue), Boolean.TRUE);
+	}
+
+	public boolean isPartial(final Object entity) {
+		return entities.containsKey(new IdentityReference(entity, null));
+	}
+
+	public void untrack(final Object entity) {
+		entities.remove(new IdentityReference(entity, null));
+	}
+
+	private boolean skipsStoredAttribute(final Class<?> type) {
+		final ArangoPersistentEntity<?> entity = converter.getMappingContext().getPersistentEntity(type);
+		if (entity == null) {
+			return false;
+		}
+		final boolean[] skips = new boolean[] { false };
+		entity.doWithProperties((final ArangoPersistentProperty property) -> {
+			skips[0] |= isSkippedStoredAttribute(property);
+		});
+		entity.doWithAssociations((final Association<ArangoPersistentProperty> association) -> {
+			skips[0] |= isSkippedStoredAttribute(association.getInverse());
+		});
+		return skips[0];
+	}
+
+	private static boolean isSkippedStoredAttribute(final ArangoPersistentProperty property) {
+		final boolean stored = property.getRef().isPresent()
+				|| ((property.getFrom().isPresent() || property.getTo().isPresent()) && !property.isCollectionLike());
+		return stored && FetchPlanContext.getFetchMode(property) == FetchMode.SKIP;
+	}
+
+	private void expunge() {
+		Reference<?> reference;
+		while ((reference = queue.poll()) != null) {
+			entities.remove(reference);
+		}
+	}
+
+}
@@ -0,0 +1,76 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2018 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.core.template;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+import com.arangodb.velocypack.VPackSlice;
+
+/**
+ * Documents which are loaded in advance for the references of a batch of query results. While a context is bound to
+ * the current thread, reads by id through {@link ArangoTemplate} are served from the context.
+ * 
+ * @author Mark Vollmary
+ *
+ */
+class ReadContext {
+
+	private static final ThreadLocal<ReadContext> CURRENT = new ThreadLocal<>();
+
+	private final Map<String, VPackSlice> documents;
+
+	/**
+	 * @param documents
+	 *            the loaded documents by {@code _id}. A {@code null} value marks a document which does not exist.
+	 */
+	public ReadContext(final Map<String, VPackSlice> documents) {
+		super();
+		this.documents = documents;
+	}
+
+	public static ReadContext current() {
+		return CURRENT.get();
+	}
+
+	public boolean contains(final String id) {
+		return documents.containsKey(id);
+	}
+
+	public VPackSlice get(final String id) {
+		return documents.get(id);
+	}
+
+	public <T> T execute(final Supplier<T> action) {
+		final ReadContext previous = CURRENT.get();
+		CURRENT.set(this);
+		try {
+			return action.get();
+		} finally {
+			if (previous != null) {
+				CURRENT.set(previous);
+			} else {
+				CURRENT.remove();
+			}
+		}
+	}
+
+}
@@ -0,0 +1,157 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2018 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.core.template;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.data.mapping.AssociationHandler;
+import org.springframework.data.mapping.PropertyHandler;
+
+import com.arangodb.springframework.core.convert.ArangoConverter;
+import com.arangodb.springframework.core.mapping.ArangoPersistentEntity;
+import com.arangodb.springframework.core.mapping.ArangoPersistentProperty;
+import com.arangodb.springframework.core.mapping.FetchMode;
+import com.arangodb.springframework.core.mapping.FetchPlanContext;
+import com.arangodb.springframework.core.util.MetadataUtils;
+import com.arangodb.velocypack.VPackSlice;
+
+/**
+ * Collects the ids of all eager references ({@code @Ref}, {@code @From}, {@code @To}) of a batch of query results and
+ * loads the referenced documents with one multi-document read per collection.
+ * 
+ * @author Mark Vollmary
+ *
+ */
+class ReferencePrefetcher {
+
+	interface DocumentLoader {
+		Collection<VPackSlice> load(String collection, Collection<String> keys);
+	}
+
+	private static final String _ID = "_id";
+
+	private final ArangoConverter converter;
+	private final DocumentLoader loader;
+	private final Map<List<Object>, Collection<String>> referenceFields;
+
+	public ReferencePrefetcher(final ArangoConverter converter, final DocumentLoader loader) {
+		super();
+		this.converter = converter;
+		this.loader = loader;
+		referenceFields = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * @param documents
+	 *            the documents of a batch
+	 * @param type
+	 *            the type the documents are read as
+	 * @return a context with the referenced documents or null if the documents have no references
+	 */
+	public ReadContext prefetch(final VPackSlice documents, final Class<?> type) {
+		// the eager references depend on the active fetch plan
+		final Collection<String> fields = referenceFields
+				.computeIfAbsent(Arrays.asList(type, FetchPlanContext.current()), key -> findReferenceFields(type));
+		if (fields.isEmpty() || !documents.isArray()) {
+			return null;
+		}
+		final Map<String, Collection<String>> keysByCollection = new LinkedHashMap<>();
+		final Map<String, VPackSlice> referenced = new HashMap<>();
+		for (final Iterator<VPackSlice> iterator = documents.arrayIterator(); iterator.hasNext();) {
+			final VPackSlice document = iterator.next();
+			if (!document.isObject()) {
+				continue;
+			}
+			for (final String field : fields) {
+				final VPackSlice value = document.get(field);
+				if (value.isString()) {
+					addId(value.getAsString(), keysByCollection, referenced);
+				} else if (value.isArray()) {
+					for (final Iterator<VPackSlice> ids = value.arrayIterator(); ids.hasNext();) {
+						final VPackSlice id = ids.next();
+						if (id.isString()) {
+							addId(id.getAsString(), keysByCollection, referenced);
+						}
+					}
+				}
+			}
+		}
+		if (referenced.isEmpty()) {
+			return null;
+		}
+		for (final Entry<String, Collection<String>> entry : keysByCollection.entrySet()) {
+			loader.load(entry.getKey(), entry.getValue())
+					.forEach(document -> referenced.put(document.get(_ID).getAsString(), document));
+		}
+		return new ReadContext(referenced);
+	}
+
+	private static void addId(
+		final String id,
+		final Map<String, Collection<String>> keysByCollection,
+		final Map<String, VPackSlice> referenced) {
+		final String collection = MetadataUtils.determineCollectionFromId(id);
+		if (collection == null || referenced.containsKey(id)) {
+			return;
+		}
+		referenced.put(id, null);
+		keysByCollection.computeIfAbsent(collection, c -> new LinkedHashSet<>())
+				.add(MetadataUtils.determineDocumentKeyFromId(id));
+	}
+
+	private Collection<String> findReferenceFields(final Class<?> type) {
+		if (!converter.isEntityType(type)) {
+			return Collections.emptyList();
+		}
+		final ArangoPersistentEntity<?> entity = converter.getMappingContext().getPersistentEntity(type);
+		if (entity == null) {
+			return Collections.emptyList();
+		}
+		final Collection<String> fields = new ArrayList<>();
+		// @Ref properties are associations, @From and @To properties are not
+		entity.doWithProperties((PropertyHandler<ArangoPersistentProperty>) property -> addIfEager(property, fields));
+		entity.doWithAssociations(
+			(AssociationHandler<ArangoPersistentProperty>) association -> addIfEager(association.getInverse(), fields));
+		return fields;
+	}
+
+	private static void addIfEager(final ArangoPersistentProperty property, final Collection<String> fields) {
+		if (!property.getRef().isPresent() && !property.getFrom().isPresent() && !property.getTo().isPresent()) {
+			return;
+		}
+		final FetchMode mode = FetchPlanContext.getFetchMode(property);
+		if (mode == FetchMode.EAGER || mode == FetchMode.JOIN) {
+			fields.add(property.getFieldName());
+		}
+	}
+
+}
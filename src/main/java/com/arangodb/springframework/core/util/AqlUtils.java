@@ -201,4 +201,66 @@ public final class AqlUtils {
 		return collection.contains("-") ? "`" + collection + "`" : collection;
 	}
 
+	/**
+	 * Builds the {@code SORT}, {@code LIMIT} and {@code RETURN} clauses for the edges of a {@code @From} or {@code @To}
+	 * property.
+	 * 
+	 * @param varName
+	 *            the name of the variable holding the edge
+	 * @param sort
+	 *            edge attributes with an optional direction, e.g. {@code "date DESC"}
+	 * @param limit
+	 *            the maximum number of edges or -1
+	 * @param fields
+	 *            the returned edge attributes in addition to the system attributes or an empty array to return the
+	 *            whole edge
+	 * @param endpoints
+	 *            the embedded vertices of the edge
+	 * @return the clauses
+	 */
+	public static String buildEdgeReturnClause(
+		final String varName,
+		final String[] sort,
+		final int limit,
+		final String[] fields,
+		final RelationJoins endpoints) {
+
+		final StringBuilder clause = new StringBuilder();
+		final Sort edgeSort = parseSort(sort);
+		if (edgeSort.isSorted()) {
+			buildSortClause(edgeSort, varName, clause).append(' ');
+		}
+		if (limit > -1) {
+			clause.append("LIMIT ").append(limit).append(' ');
+		}
+		final String projection;
+		if (fields.length == 0) {
+			projection = varName;
+		} else {
+			// keeps the given fields and all system attributes (starting with an underscore) including the type hint
+			final StringJoiner names = new StringJoiner(", ", "[", "]");
+			for (final String field : fields) {
+				names.add('"' + field.replace("\\", "\\\\").replace("\"", "\\\"") + '"');
+			}
+			projection = String.format(
+				"KEEP(%1$s, UNION_DISTINCT(%2$s, MINUS(ATTRIBUTES(%1$s), ATTRIBUTES(%1$s, true))))", varName, names);
+		}
+		return clause.append("RETURN ").append(endpoints.buildReturnExpression(projection)).toString();
+	}
+
+	private static Sort parseSort(final String[] sort) {
+		Sort result = Sort.unsorted();
+		for (final String order : sort) {
+			final String[] parts = order.trim().split("\\s+");
+			if (parts.length > 2 || !StringUtils.hasText(parts[0])) {
+				throw new IllegalArgumentException(
+						String.format("Invalid sort order '%s', expected an attribute and an optional direction!", order));
+			}
+			final Sort.Direction direction = parts.length > 1 ? Sort.Direction.fromString(parts[1])
+					: Sort.DEFAULT_DIRECTION;
+			result = result.and(Sort.by(direction, parts[0]));
+		}
+		return result;
+	}
+
 }
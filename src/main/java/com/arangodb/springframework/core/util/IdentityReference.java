@@ -0,0 +1,59 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2018 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.core.util;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+
+/**
+ * Weak reference to an entity which compares by identity of the referent, as entities may override
+ * {@link Object#equals(Object)}. Usable as key of a map, which is looked up with a reference without queue.
+ * 
+ * @author Mark Vollmary
+ *
+ */
+public class IdentityReference extends WeakReference<Object> {
+
+	private final int hash;
+
+	public IdentityReference(final Object referent, final ReferenceQueue<Object> queue) {
+		super(referent, queue);
+		hash = System.identityHashCode(referent);
+	}
+
+	@Override
+	public int hashCode() {
+		return hash;
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof IdentityReference)) {
+			return false;
+		}
+		final Object referent = get();
+		return referent != null && referent == ((IdentityReference) obj).get();
+	}
+
+}
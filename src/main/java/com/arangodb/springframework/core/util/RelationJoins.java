@@ -0,0 +1,237 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2018 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.core.util;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.util.TypeInformation;
+
+import com.arangodb.springframework.annotation.Edge;
+import com.arangodb.springframework.annotation.From;
+import com.arangodb.springframework.annotation.Relations;
+import com.arangodb.springframework.annotation.To;
+import com.arangodb.springframework.core.mapping.ArangoPersistentEntity;
+import com.arangodb.springframework.core.mapping.ArangoPersistentProperty;
+import com.arangodb.springframework.core.mapping.FetchMode;
+import com.arangodb.springframework.core.mapping.FetchPlanContext;
+
+/**
+ * Builds AQL subqueries for the relations of an entity which are fetch joined ({@code join = true} or
+ * {@link FetchMode#JOIN} within the active fetch plan) into the query of the entity. The subqueries are merged into
+ * the returned document under the field name of the relation, from where they are read by the converter instead of
+ * being resolved with separate queries.
+ * <p>
+ * The {@code @From} and {@code @To} vertices of an edge entity are embedded with {@code DOCUMENT()} only if they are
+ * fetch joined. Eager vertices are left to the batch reference resolution of the cursor, which loads the vertices of
+ * all edges of a batch with one read per collection.
+ * 
+ * @author Mark Vollmary
+ *
+ */
+public final class RelationJoins {
+
+	private static final String VAR = "j";
+	private static final String BIND_VAR_PREFIX = "@join";
+
+	private final Map<String, String> subqueries;
+	private final Set<String> withCollections;
+	private final Map<String, Object> bindVars;
+
+	private RelationJoins() {
+		super();
+		subqueries = new LinkedHashMap<>();
+		withCollections = new LinkedHashSet<>();
+		bindVars = new LinkedHashMap<>();
+	}
+
+	/**
+	 * @return fetch joins without any joined relation
+	 */
+	public static RelationJoins none() {
+		return new RelationJoins();
+	}
+
+	/**
+	 * @param context
+	 *            the mapping context
+	 * @param entityClass
+	 *            the type of the queried entity
+	 * @param varName
+	 *            the name of the variable holding the queried document
+	 * @return the fetch joins of the entity
+	 */
+	public static RelationJoins of(
+		final MappingContext<? extends ArangoPersistentEntity<?>, ArangoPersistentProperty> context,
+		final Class<?> entityClass,
+		final String varName) {
+		final ArangoPersistentEntity<?> entity = context.getPersistentEntity(entityClass);
+		final RelationJoins joins = new RelationJoins();
+		if (entity == null) {
+			return joins;
+		}
+		if (entity.findAnnotation(Edge.class) != null) {
+			entity.doWithProperties((PropertyHandler<ArangoPersistentProperty>) property -> {
+				if (isEmbeddedEndpoint(property)) {
+					joins.subqueries.put(property.getFieldName(),
+						String.format("DOCUMENT(%s.%s)", varName, property.getFieldName()));
+				}
+			});
+			return joins;
+		}
+		final Map<String, Integer> fieldNames = new HashMap<>();
+		entity.doWithProperties((PropertyHandler<ArangoPersistentProperty>) property -> fieldNames
+				.merge(property.getFieldName(), 1, Integer::sum));
+		entity.doWithProperties((PropertyHandler<ArangoPersistentProperty>) property -> {
+			if (fieldNames.get(property.getFieldName()) > 1) {
+				// e.g. several @From properties share the field name _from
+				return;
+			}
+			final String subquery;
+			if (FetchPlanContext.getFetchMode(property) != FetchMode.JOIN) {
+				subquery = null;
+			} else if (property.getRelations().isPresent()) {
+				subquery = joins.relations(property, property.getRelations().get(), varName);
+			} else if (property.getFrom().isPresent()) {
+				final From from = property.getFrom().get();
+				subquery = joins.edges(context, property, "_from", varName, from.sort(), from.limit(), from.fields());
+			} else if (property.getTo().isPresent()) {
+				final To to = property.getTo().get();
+				subquery = joins.edges(context, property, "_to", varName, to.sort(), to.limit(), to.fields());
+			} else {
+				subquery = null;
+			}
+			if (subquery != null) {
+				joins.subqueries.put(property.getFieldName(), subquery);
+			}
+		});
+		return joins;
+	}
+
+	private static boolean isEmbeddedEndpoint(final ArangoPersistentProperty property) {
+		if (!(property.getFrom().isPresent() || property.getTo().isPresent()) || !property.isEntity()) {
+			return false;
+		}
+		return FetchPlanContext.getFetchMode(property) == FetchMode.JOIN;
+	}
+
+	private String bindCollection(final Class<?> type) {
+		final String name = BIND_VAR_PREFIX + bindVars.size();
+		bindVars.put(name, type);
+		return "@" + name;
+	}
+
+	private String relations(final ArangoPersistentProperty property, final Relations relations, final String varName) {
+		withCollections.add(bindCollection(componentType(property).getType()));
+		final String edges = Arrays.stream(relations.edges()).map(this::bindCollection)
+				.collect(Collectors.joining(", "));
+		return subquery(property,
+			String.format("FOR %s IN %d..%d %s %s._id %s OPTIONS {bfs: true, uniqueVertices: \"global\"}", VAR,
+				Math.max(1, relations.minDepth()), Math.max(1, relations.maxDepth()), relations.direction(), varName,
+				edges));
+	}
+
+	private String edges(
+		final MappingContext<? extends ArangoPersistentEntity<?>, ArangoPersistentProperty> context,
+		final ArangoPersistentProperty property,
+		final String attribute,
+		final String varName,
+		final String[] sort,
+		final int limit,
+		final String[] fields) {
+		final Class<?> edgeType = componentType(property).getType();
+		final String loop = String.format("FOR %s IN %s FILTER %s.%s == %s._id", VAR, bindCollection(edgeType), VAR,
+			attribute, varName);
+		final boolean multiple = property.isCollectionLike();
+		final String returnClause = AqlUtils.buildEdgeReturnClause(VAR, sort, multiple ? limit : 1, fields,
+			of(context, edgeType, VAR));
+		return String.format(multiple ? "(%s %s)" : "FIRST(%s %s)", loop, returnClause);
+	}
+
+	private static String subquery(final ArangoPersistentProperty property, final String loop) {
+		return property.isCollectionLike() ? String.format("(%s RETURN %s)", loop, VAR)
+				: String.format("FIRST(%s LIMIT 1 RETURN %s)", loop, VAR);
+	}
+
+	private static TypeInformation<?> componentType(final ArangoPersistentProperty property) {
+		final TypeInformation<?> type = property.getTypeInformation();
+		return property.isCollectionLike() ? type.getRequiredComponentType() : type;
+	}
+
+	public boolean isEmpty() {
+		return subqueries.isEmpty();
+	}
+
+	/**
+	 * @return the bind parameters of the joined collections, which have to be added to the bind parameters of the
+	 *         query
+	 */
+	public Map<String, Object> getBindVars() {
+		return bindVars;
+	}
+
+	/**
+	 * @return the vertex collections of joined traversals, which have to be declared in a {@code WITH} clause
+	 */
+	public Collection<String> getWithCollections() {
+		return withCollections;
+	}
+
+	/**
+	 * @return an AQL object with the joined relations, e.g. <code>{ "friends": (FOR j IN ... RETURN j) }</code>
+	 */
+	public String buildObject() {
+		return subqueries.entrySet().stream().map(RelationJoins::buildAttribute)
+				.collect(Collectors.joining(", ", "{ ", " }"));
+	}
+
+	private static String buildAttribute(final Entry<String, String> subquery) {
+		return String.format("\"%s\": %s", subquery.getKey().replace("\"", "\\\""), subquery.getValue());
+	}
+
+	/**
+	 * @param varName
+	 *            the name of the variable holding the queried document
+	 * @return an AQL expression merging the joined relations into the document or the variable itself if there is
+	 *         nothing to join
+	 */
+	public String buildReturnExpression(final String varName) {
+		return isEmpty() ? varName : String.format("MERGE(%s, %s)", varName, buildObject());
+	}
+
+	/**
+	 * @return a {@code WITH} clause (including a trailing space) for the vertex collections of joined traversals or an
+	 *         empty string
+	 */
+	public String buildWithClause() {
+		return withCollections.isEmpty() ? "" : "WITH " + String.join(", ", withCollections) + " ";
+	}
+
+}
@@ -43,6 +43,7 @@ import com.arangodb.springframework.core.ArangoOperations;
 import com.arangodb.springframework.core.ArangoOperations.UpsertStrategy;
 import com.arangodb.springframework.core.mapping.ArangoMappingContext;
 import com.arangodb.springframework.core.util.AqlUtils;
+import com.arangodb.springframework.core.util.RelationJoins;
 
 /**
  * The implementation of all CRUD, paging and sorting functionality in ArangoRepository from the Spring Data Commons
@@ -355,8 +356,10 @@ public class SimpleArangoRepository<T, ID> implements ArangoRepository<T, ID> {
 		@Nullable final Example<S> example,
 		final Map<String, Object> bindVars) {
 
-		final String query = String.format("FOR e IN %s %s %s RETURN e", getCollectionName(),
-			buildFilterClause(example, bindVars), buildSortClause(sort, "e"));
+		final RelationJoins joins = buildRelationJoins(bindVars);
+		final String query = String.format("%sFOR e IN %s %s %s RETURN %s", joins.buildWithClause(),
+			getCollectionName(), buildFilterClause(example, bindVars), buildSortClause(sort, "e"),
+			joins.buildReturnExpression("e"));
 		return arangoOperations.query(query, bindVars, null, domainClass);
 	}
 
@@ -365,13 +368,22 @@ public class SimpleArangoRepository<T, ID> implements ArangoRepository<T, ID> {
 		@Nullable final Example<S> example,
 		final Map<String, Object> bindVars) {
 
-		final String query = String.format("FOR e IN %s %s %s RETURN e", getCollectionName(),
-			buildFilterClause(example, bindVars), buildPageableClause(pageable, "e"));
+		final RelationJoins joins = buildRelationJoins(bindVars);
+		final String query = String.format("%sFOR e IN %s %s %s RETURN %s", joins.buildWithClause(),
+			getCollectionName(), buildFilterClause(example, bindVars), buildPageableClause(pageable, "e"),
+			joins.buildReturnExpression("e"));
 
 		return arangoOperations.query(query, bindVars,
 			pageable != null && pageable.isPaged() ? new AqlQueryOptions().fullCount(true) : null, domainClass);
 	}
 
+	private RelationJoins buildRelationJoins(final Map<String, Object> bindVars) {
+		final RelationJoins joins = RelationJoins.of(arangoOperations.getConverter().getMappingContext(), domainClass,
+			"e");
+		bindVars.putAll(joins.getBindVars());
+		return joins;
+	}
+
 	private <S extends T> String buildFilterClause(final Example<S> example, final Map<String, Object> bindVars) {
 		if (example == null) {
 			return "";
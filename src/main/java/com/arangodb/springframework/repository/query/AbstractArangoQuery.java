@@ -20,19 +20,38 @@
 
 package com.arangodb.springframework.repository.query;
 
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Stream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.mapping.AssociationHandler;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.data.repository.query.ResultProcessor;
 import org.springframework.util.Assert;
 
 import com.arangodb.ArangoCursor;
 import com.arangodb.model.AqlQueryOptions;
+import com.arangodb.springframework.annotation.QueryResultCache;
+import com.arangodb.springframework.annotation.Relations;
 import com.arangodb.springframework.core.ArangoOperations;
+import com.arangodb.springframework.core.mapping.ArangoPersistentEntity;
+import com.arangodb.springframework.core.mapping.ArangoPersistentProperty;
+import com.arangodb.springframework.core.mapping.FetchPlanContext;
+import com.arangodb.springframework.core.template.ArangoTemplate;
 import com.arangodb.velocypack.VPackSlice;
 
 /**
@@ -46,9 +65,23 @@ public abstract class AbstractArangoQuery implements RepositoryQuery {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(AbstractArangoQuery.class);
 
+	private static class CachedResult {
+		private final List<VPackSlice> documents;
+		private final Long fullCount;
+
+		public CachedResult(final List<VPackSlice> documents, final Long fullCount) {
+			super();
+			this.documents = documents;
+			this.fullCount = fullCount;
+		}
+	}
+
 	protected final ArangoQueryMethod method;
 	protected final ArangoOperations operations;
 	protected final Class<?> domainClass;
+	private final ArangoQueryResultCache resultCache;
+	private final Collection<Class<?>> cachedTypes;
+	private final String[] cachedCollections;
 
 	public AbstractArangoQuery(final ArangoQueryMethod method, final ArangoOperations operations) {
 		Assert.notNull(method, "ArangoQueryMethod must not be null!");
@@ -56,17 +89,82 @@ public abstract class AbstractArangoQuery implements RepositoryQuery {
 		this.method = method;
 		this.operations = operations;
 		this.domainClass = method.getEntityInformation().getJavaType();
+		final QueryResultCache cacheAnnotation = method.getQueryResultCacheAnnotation();
+		// the write versions are tracked by ArangoTemplate
+		if (cacheAnnotation != null && operations instanceof ArangoTemplate
+				&& isCacheableReturnType(method.getReturnType().getType())) {
+			this.resultCache = new ArangoQueryResultCache(cacheAnnotation);
+			this.cachedTypes = findReadTypes(operations.getConverter().getMappingContext(), domainClass);
+			this.cachedCollections = cacheAnnotation.collections();
+		} else {
+			this.resultCache = null;
+			this.cachedTypes = null;
+			this.cachedCollections = null;
+		}
+	}
+
+	/**
+	 * @return the given type and the types of all relations ({@code @Ref}, {@code @Relations}, {@code @From},
+	 *         {@code @To}) reachable from it, including the edges of {@code @Relations}
+	 */
+	private static Collection<Class<?>> findReadTypes(
+		final MappingContext<? extends ArangoPersistentEntity<?>, ArangoPersistentProperty> context,
+		final Class<?> type) {
+		final Collection<Class<?>> types = new LinkedHashSet<>();
+		types.add(type);
+		addRelatedTypes(context, type, types, new HashSet<>());
+		return types;
+	}
+
+	private static void addRelatedTypes(
+		final MappingContext<? extends ArangoPersistentEntity<?>, ArangoPersistentProperty> context,
+		final Class<?> type,
+		final Collection<Class<?>> types,
+		final Set<Class<?>> visited) {
+		if (!visited.add(type)) {
+			return;
+		}
+		final ArangoPersistentEntity<?> entity = context.getPersistentEntity(type);
+		if (entity == null) {
+			return;
+		}
+		final PropertyHandler<ArangoPersistentProperty> handler = property -> {
+			final Class<?> actualType = property.getTypeInformation().getRequiredActualType().getType();
+			if (property.getRef().isPresent() || property.getRelations().isPresent() || property.getFrom().isPresent()
+					|| property.getTo().isPresent()) {
+				types.add(actualType);
+				property.getRelations().map(Relations::edges).ifPresent(edges -> Collections.addAll(types, edges));
+				addRelatedTypes(context, actualType, types, visited);
+			} else if (property.isEntity()) {
+				// embedded objects have no collection, but can hold relations
+				addRelatedTypes(context, actualType, types, visited);
+			}
+		};
+		// @Ref properties are associations, all other relations are properties
+		entity.doWithProperties(handler);
+		entity.doWithAssociations(
+			(AssociationHandler<ArangoPersistentProperty>) association -> handler.doWithPersistentProperty(association
+					.getInverse()));
+	}
+
+	private static boolean isCacheableReturnType(final Class<?> type) {
+		return !ArangoCursor.class.isAssignableFrom(type) && !Stream.class.isAssignableFrom(type);
 	}
 
 	@Override
 	public Object execute(final Object[] parameters) {
+		final String fetchPlan = method.getFetchPlan();
+		return fetchPlan != null ? operations.withFetchPlan(fetchPlan, () -> executeQuery(parameters))
+				: executeQuery(parameters);
+	}
+
+	private Object executeQuery(final Object[] parameters) {
 		final ArangoParameterAccessor accessor = new ArangoParametersParameterAccessor(method, parameters);
 		final Map<String, Object> bindVars = new HashMap<>();
 
-		AqlQueryOptions options = mergeQueryOptions(method.getAnnotatedQueryOptions(), accessor.getQueryOptions());
-		if (options == null) {
-			options = new AqlQueryOptions();
-		}
+		final AqlQueryOptions mergedOptions = mergeQueryOptions(method.getAnnotatedQueryOptions(),
+			accessor.getQueryOptions());
+		final AqlQueryOptions options = mergedOptions != null ? mergedOptions : new AqlQueryOptions();
 
 		if (method.isPageQuery()) {
 			options.fullCount(true);
@@ -77,11 +175,95 @@ public abstract class AbstractArangoQuery implements RepositoryQuery {
 		final ResultProcessor processor = method.getResultProcessor().withDynamicProjection(accessor);
 		final Class<?> typeToRead = getTypeToRead(processor);
 
+		final Object cacheKey = resultCache != null ? createCacheKey(query, bindVars, typeToRead, processor) : null;
+		if (cacheKey == null) {
+			return execute(query, bindVars, options, typeToRead, processor, accessor);
+		}
+		// the raw documents are cached, every call reads its own entities from them
+		final CachedResult cached = (CachedResult) resultCache.get(cacheKey, getWriteVersions(bindVars), () -> {
+			final ArangoCursor<VPackSlice> result = operations.query(query, bindVars, options, VPackSlice.class);
+			logWarningsIfNecessary(result);
+			return new CachedResult(result.asListRemaining(),
+					result.getStats() != null ? result.getStats().getFullCount() : null);
+		});
+		final ArangoCursor<?> result = ((ArangoTemplate) operations).cursor(cached.documents, cached.fullCount,
+			typeToRead);
+		return processor.processResult(convertResult(result, accessor));
+	}
+
+	private Object execute(
+		final String query,
+		final Map<String, Object> bindVars,
+		final AqlQueryOptions options,
+		final Class<?> typeToRead,
+		final ResultProcessor processor,
+		final ArangoParameterAccessor accessor) {
 		final ArangoCursor<?> result = operations.query(query, bindVars, options, typeToRead);
 		logWarningsIfNecessary(result);
 		return processor.processResult(convertResult(result, accessor));
 	}
 
+	/**
+	 * Creates the key for the result cache. Bind parameters are normalized to their serialized form, so that equal
+	 * arguments result in equal keys independent of their identity.
+	 * 
+	 * @return the key or null if a bind parameter could not be serialized
+	 */
+	private Object createCacheKey(
+		final String query,
+		final Map<String, Object> bindVars,
+		final Class<?> typeToRead,
+		final ResultProcessor processor) {
+		final Map<String, Object> normalized = new TreeMap<>();
+		for (final Entry<String, Object> entry : bindVars.entrySet()) {
+			final Object value = entry.getValue();
+			if (value == null || value instanceof Class) {
+				normalized.put(entry.getKey(), value);
+				continue;
+			}
+			final VPackSlice slice;
+			try {
+				slice = operations.getConverter().write(value);
+			} catch (final RuntimeException e) {
+				return null;
+			}
+			normalized.put(entry.getKey(), ByteBuffer.wrap(
+				Arrays.copyOfRange(slice.getBuffer(), slice.getStart(), slice.getStart() + slice.getByteSize())));
+		}
+		return Arrays.asList(query, normalized, typeToRead, processor.getReturnedType().getReturnedType(),
+			FetchPlanContext.current());
+	}
+
+	/**
+	 * @return the write versions of the collections of the domain class and its relations, the collections listed in
+	 *         {@link QueryResultCache#collections()} and the collections given as bind parameters
+	 */
+	private long[] getWriteVersions(final Map<String, Object> bindVars) {
+		final MappingContext<? extends ArangoPersistentEntity<?>, ArangoPersistentProperty> context = operations
+				.getConverter().getMappingContext();
+		final Collection<String> collections = new LinkedHashSet<>();
+		for (final Class<?> type : cachedTypes) {
+			final ArangoPersistentEntity<?> entity = context.getPersistentEntity(type);
+			if (entity != null) {
+				collections.add(entity.getCollection());
+			}
+		}
+		Collections.addAll(collections, cachedCollections);
+		for (final Entry<String, Object> entry : new TreeMap<>(bindVars).entrySet()) {
+			final Object value = entry.getValue();
+			if (!entry.getKey().startsWith("@")) {
+				continue;
+			}
+			if (value instanceof Class) {
+				collections.add(context.getRequiredPersistentEntity((Class<?>) value).getCollection());
+			} else if (value instanceof String) {
+				collections.add((String) value);
+			}
+		}
+		final ArangoTemplate template = (ArangoTemplate) operations;
+		return collections.stream().mapToLong(template::getWriteVersion).toArray();
+	}
+
 	private void logWarningsIfNecessary(final ArangoCursor<?> result) {
 		result.getWarnings().forEach(warning -> {
 			LOGGER.warn("Query warning at [" + method + "]: " + warning.getCode() + " - " + warning.getMessage());
@@ -39,6 +39,8 @@ import org.springframework.util.StringUtils;
 import com.arangodb.model.AqlQueryOptions;
 import com.arangodb.springframework.annotation.Query;
 import com.arangodb.springframework.annotation.QueryOptions;
+import com.arangodb.springframework.annotation.QueryResultCache;
+import com.arangodb.springframework.annotation.WithFetchPlan;
 
 /**
  * 
@@ -130,6 +132,18 @@ public class ArangoQueryMethod extends QueryMethod {
 		return AnnotatedElementUtils.findMergedAnnotation(method, QueryOptions.class);
 	}
 
+	public QueryResultCache getQueryResultCacheAnnotation() {
+		return AnnotatedElementUtils.findMergedAnnotation(method, QueryResultCache.class);
+	}
+
+	/**
+	 * @return the name of the fetch plan of the method or null if the method has no {@link WithFetchPlan} annotation
+	 */
+	public String getFetchPlan() {
+		final WithFetchPlan annotation = AnnotatedElementUtils.findMergedAnnotation(method, WithFetchPlan.class);
+		return annotation != null ? annotation.value() : null;
+	}
+
 	public TypeInformation<?> getReturnType() {
 		return returnType;
 	}
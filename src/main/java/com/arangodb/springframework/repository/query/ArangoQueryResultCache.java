@@ -0,0 +1,101 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2018 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.repository.query;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import com.arangodb.springframework.annotation.QueryResultCache;
+
+/**
+ * Client side cache for the results of a single query method. An entry remembers the write versions of the
+ * collections read by the query at the time the query was executed and is only served as long as these versions did
+ * not change.
+ * 
+ * @author Mark Vollmary
+ *
+ */
+class ArangoQueryResultCache {
+
+	private static class Entry {
+		private final Object result;
+		private final long[] versions;
+		private final long expires;
+
+		public Entry(final Object result, final long[] versions, final long expires) {
+			super();
+			this.result = result;
+			this.versions = versions;
+			this.expires = expires;
+		}
+	}
+
+	private final long timeToLive;
+	private final Map<Object, Entry> entries;
+
+	@SuppressWarnings("serial")
+	public ArangoQueryResultCache(final QueryResultCache annotation) {
+		super();
+		final int maxSize = annotation.maxSize();
+		timeToLive = annotation.timeToLive() > 0 ? TimeUnit.MILLISECONDS.toNanos(annotation.timeToLive()) : -1;
+		entries = new LinkedHashMap<Object, Entry>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(final Map.Entry<Object, ArangoQueryResultCache.Entry> eldest) {
+				return size() > maxSize;
+			}
+		};
+	}
+
+	/**
+	 * Returns the cached result for the given key if it was cached with the given write versions. Otherwise the
+	 * result is loaded and cached.
+	 * 
+	 * @param key
+	 *            the key of the query execution
+	 * @param versions
+	 *            the write versions of the read collections, determined before loading
+	 * @param loader
+	 *            executes the query
+	 * @return the cached or loaded result
+	 */
+	public Object get(final Object key, final long[] versions, final Supplier<Object> loader) {
+		final long now = System.nanoTime();
+		synchronized (entries) {
+			final Entry entry = entries.get(key);
+			if (entry != null) {
+				if (Arrays.equals(entry.versions, versions) && (timeToLive <= 0 || now - entry.expires < 0)) {
+					return entry.result;
+				}
+				entries.remove(key);
+			}
+		}
+		final Object result = loader.get();
+		final Entry entry = new Entry(result, versions, now + timeToLive);
+		synchronized (entries) {
+			entries.put(key, entry);
+		}
+		return result;
+	}
+
+}
@@ -20,6 +20,8 @@
 
 package com.arangodb.springframework.repository.query;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.lang.reflect.Method;
 import java.util.Collection;
 import java.util.HashMap;
@@ -28,8 +30,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.Spliterator;
 import java.util.Spliterators;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import org.springframework.data.domain.Page;
@@ -78,6 +82,7 @@ public class ArangoResultConverter {
 			TYPE_MAP.put(Slice.class, ArangoResultConverter.class.getMethod("convertPage"));
 			TYPE_MAP.put(Set.class, ArangoResultConverter.class.getMethod("convertSet"));
 			TYPE_MAP.put(ArangoCursor.class, ArangoResultConverter.class.getMethod("convertArangoCursor"));
+			TYPE_MAP.put(Stream.class, ArangoResultConverter.class.getMethod("convertStream"));
 			TYPE_MAP.put(GeoResult.class, ArangoResultConverter.class.getMethod("convertGeoResult"));
 			TYPE_MAP.put(GeoResults.class, ArangoResultConverter.class.getMethod("convertGeoResults"));
 			TYPE_MAP.put(GeoPage.class, ArangoResultConverter.class.getMethod("convertGeoPage"));
@@ -230,6 +235,23 @@ public class ArangoResultConverter {
 		return result;
 	}
 
+	/**
+	 * Creates a lazy Stream from the cursor. Further batches of the cursor are only fetched from the server when the
+	 * stream is consumed beyond the current batch. Closing the stream closes the cursor.
+	 * 
+	 * @return Stream of the results
+	 */
+	public Stream<?> convertStream() {
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(result, Spliterator.ORDERED), false)
+				.onClose(() -> {
+					try {
+						result.close();
+					} catch (final IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				});
+	}
+
 	public GeoResult<?> convertGeoResult() {
 		return buildGeoResult(result);
 	}
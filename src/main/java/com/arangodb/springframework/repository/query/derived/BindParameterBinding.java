@@ -34,6 +34,10 @@ public class BindParameterBinding {
 		this.bindVars = bindVars;
 	}
 
+	public void bind(final Map<String, Object> values) {
+		bindVars.putAll(values);
+	}
+
 	public int bind(
 		final Object value,
 		final boolean shouldIgnoreCase,
@@ -48,6 +48,7 @@ import com.arangodb.springframework.annotation.Relations;
 import com.arangodb.springframework.core.mapping.ArangoPersistentEntity;
 import com.arangodb.springframework.core.mapping.ArangoPersistentProperty;
 import com.arangodb.springframework.core.util.AqlUtils;
+import com.arangodb.springframework.core.util.RelationJoins;
 import com.arangodb.springframework.repository.query.ArangoParameterAccessor;
 import com.arangodb.springframework.repository.query.derived.geo.Ring;
 
@@ -70,6 +71,7 @@ public class DerivedQueryCreator extends AbstractQueryCreator<String, Criteria>
 	}
 
 	private final MappingContext<? extends ArangoPersistentEntity<?>, ArangoPersistentProperty> context;
+	private final Class<?> domainClass;
 	private final String collectionName;
 	private final PartTree tree;
 	private final ArangoParameterAccessor accessor;
@@ -88,6 +90,7 @@ public class DerivedQueryCreator extends AbstractQueryCreator<String, Criteria>
 		final BindParameterBinding binder, final List<String> geoFields) {
 		super(tree, accessor);
 		this.context = context;
+		this.domainClass = domainClass;
 		collectionName = AqlUtils.buildCollectionName(context.getPersistentEntity(domainClass).getCollection());
 		this.tree = tree;
 		this.accessor = accessor;
@@ -126,6 +129,12 @@ public class DerivedQueryCreator extends AbstractQueryCreator<String, Criteria>
 		}
 		final StringBuilder query = new StringBuilder();
 
+		final RelationJoins joins = tree.isDelete() || tree.isCountProjection() || tree.isExistsProjection()
+				? RelationJoins.none()
+				: RelationJoins.of(context, domainClass, "e");
+		binding.bind(joins.getBindVars());
+		withCollections.addAll(joins.getWithCollections());
+
 		final String with = withCollections.stream().collect(Collectors.joining(", "));
 		if (!with.isEmpty()) {
 			query.append("WITH ").append(with).append(" ");
@@ -173,11 +182,12 @@ public class DerivedQueryCreator extends AbstractQueryCreator<String, Criteria>
 		} else {
 			query.append(" RETURN ");
 			if (this.geoFields.isEmpty()) {
-				query.append("e");
+				query.append(joins.buildReturnExpression("e"));
 			} else {
-				query.append(format("MERGE(e, { '_distance': %s })",
+				query.append(format("MERGE(e, { '_distance': %s }%s)",
 					Criteria.distance(uniqueLocation, bind(getUniquePoint()[0]), bind(getUniquePoint()[1]))
-							.getPredicate()));
+							.getPredicate(),
+					joins.isEmpty() ? "" : ", " + joins.buildObject()));
 			}
 		}
 		return query.toString();
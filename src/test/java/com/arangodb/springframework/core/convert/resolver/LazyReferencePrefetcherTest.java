@@ -0,0 +1,100 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2018 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.core.convert.resolver;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.Test;
+
+import com.arangodb.springframework.AbstractArangoTest;
+import com.arangodb.springframework.testdata.Product;
+
+/**
+ * @author Mark Vollmary
+ *
+ */
+public class LazyReferencePrefetcherTest extends AbstractArangoTest {
+
+	public LazyReferencePrefetcherTest() {
+		super(Product.class);
+	}
+
+	@Test
+	public void prefetchQueuedIdsAtOnce() {
+		final Product phone = new Product("phone");
+		final Product car = new Product("car");
+		template.insert(phone);
+		template.insert(car);
+
+		final List<Runnable> tasks = new ArrayList<>();
+		final LazyReferencePrefetcher prefetcher = new LazyReferencePrefetcher(template, tasks::add);
+		final CompletableFuture<List<Object>> first = prefetcher
+				.prefetch(Collections.singletonList("product/" + phone.getId()), Product.class);
+		final CompletableFuture<List<Object>> second = prefetcher
+				.prefetch(Arrays.asList("product/" + car.getId(), "product/" + phone.getId()), Product.class);
+		assertThat(tasks.size(), is(1));
+		assertThat(first.isDone(), is(false));
+
+		tasks.get(0).run();
+		assertThat(((Product) first.join().get(0)).getName(), is("phone"));
+		assertThat(((Product) second.join().get(0)).getName(), is("car"));
+		assertThat(((Product) second.join().get(1)).getName(), is("phone"));
+	}
+
+	@Test
+	public void missingDocument() {
+		final Product phone = new Product("phone");
+		template.insert(phone);
+
+		final LazyReferencePrefetcher prefetcher = new LazyReferencePrefetcher(template, Runnable::run);
+		final CompletableFuture<List<Object>> future = prefetcher
+				.prefetch(Arrays.asList("product/" + phone.getId(), "product/missing"), Product.class);
+		final List<Object> prefetched = LazyReferencePrefetcher.getPrefetched(future);
+		assertThat(((Product) prefetched.get(0)).getName(), is("phone"));
+		assertThat(prefetched.get(1), is(nullValue()));
+	}
+
+	@Test
+	public void prefetchWithinIdentityMap() {
+		final Product phone = new Product("phone");
+		template.insert(phone);
+
+		final List<Runnable> tasks = new ArrayList<>();
+		final LazyReferencePrefetcher prefetcher = new LazyReferencePrefetcher(template, tasks::add);
+		final Product[] read = new Product[1];
+		final CompletableFuture<List<Object>> future = template.withIdentityMap(() -> {
+			read[0] = template.find(phone.getId(), Product.class).get();
+			return prefetcher.prefetch(Collections.singletonList("product/" + phone.getId()), Product.class);
+		});
+		tasks.get(0).run();
+		assertThat(future.join().get(0), is(sameInstance(read[0])));
+	}
+
+}
@@ -24,14 +24,18 @@ import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.junit.Assert.assertThat;
 
+import java.util.Iterator;
+
 import org.junit.Test;
 
 import com.arangodb.springframework.AbstractArangoTest;
+import com.arangodb.springframework.annotation.Edge;
 import com.arangodb.springframework.annotation.From;
 import com.arangodb.springframework.annotation.To;
 import com.arangodb.springframework.core.mapping.testdata.BasicEdgeLazyTestEntity;
 import com.arangodb.springframework.core.mapping.testdata.BasicEdgeTestEntity;
 import com.arangodb.springframework.core.mapping.testdata.BasicTestEntity;
+import com.arangodb.springframework.core.util.RelationJoins;
 
 /**
  * @author Mark Vollmary
@@ -128,4 +132,46 @@ public class EdgeMappingTest extends AbstractArangoTest {
 		assertThat(document.to.getId(), is(to.id));
 	}
 
+	@Edge
+	public static class EdgeJoinTestEntity extends BasicTestEntity {
+		@From(join = true)
+		private BasicTestEntity from;
+		@To(join = true)
+		private BasicTestEntity to;
+
+		public EdgeJoinTestEntity() {
+			super();
+		}
+
+		public EdgeJoinTestEntity(final BasicTestEntity from, final BasicTestEntity to) {
+			super();
+			this.from = from;
+			this.to = to;
+		}
+	}
+
+	@Test
+	public void edgeFromToEmbedded() {
+		final BasicTestEntity e1 = new BasicTestEntity();
+		template.insert(e1);
+		final BasicTestEntity e2 = new BasicTestEntity();
+		template.insert(e2);
+		final EdgeJoinTestEntity e0 = new EdgeJoinTestEntity(e1, e2);
+		template.insert(e0);
+		assertThat(
+			RelationJoins.of(template.getConverter().getMappingContext(), EdgeJoinTestEntity.class, "e")
+					.buildReturnExpression("e"),
+			is("MERGE(e, { \"_from\": DOCUMENT(e._from), \"_to\": DOCUMENT(e._to) })"));
+		// eager vertices are resolved per cursor batch, lazy vertices on access
+		assertThat(RelationJoins.of(template.getConverter().getMappingContext(), BasicEdgeTestEntity.class, "e")
+				.isEmpty(), is(true));
+		assertThat(RelationJoins.of(template.getConverter().getMappingContext(), BasicEdgeLazyTestEntity.class, "e")
+				.isEmpty(), is(true));
+		final Iterator<EdgeJoinTestEntity> documents = template.findAll(EdgeJoinTestEntity.class).iterator();
+		final EdgeJoinTestEntity document = documents.next();
+		assertThat(documents.hasNext(), is(false));
+		assertThat(document.from.getId(), is(e1.getId()));
+		assertThat(document.to.getId(), is(e2.getId()));
+	}
+
 }
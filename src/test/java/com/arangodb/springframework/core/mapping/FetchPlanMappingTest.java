@@ -0,0 +1,166 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2018 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.core.mapping;
+
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.Test;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.mapping.MappingException;
+
+import com.arangodb.ArangoCursor;
+import com.arangodb.springframework.AbstractArangoTest;
+import com.arangodb.springframework.annotation.FetchPlan;
+import com.arangodb.springframework.annotation.Ref;
+import com.arangodb.springframework.annotation.Relations;
+import com.arangodb.springframework.core.convert.resolver.LazyLoadingProxy;
+import com.arangodb.springframework.core.mapping.testdata.BasicEdgeTestEntity;
+import com.arangodb.springframework.core.mapping.testdata.BasicTestEntity;
+
+/**
+ * @author Mark Vollmary
+ *
+ */
+public class FetchPlanMappingTest extends AbstractArangoTest {
+
+	@FetchPlan(name = "summary", skip = "entity", lazy = "entities")
+	@FetchPlan(name = "full", eager = "lazyEntity")
+	public static class FetchPlanTestEntity extends BasicTestEntity {
+		@Ref
+		private BasicTestEntity entity;
+		@Ref(lazy = true)
+		private BasicTestEntity lazyEntity;
+		@Relations(edges = BasicEdgeTestEntity.class)
+		private Collection<BasicTestEntity> entities;
+	}
+
+	private FetchPlanTestEntity insertEntity() {
+		final BasicTestEntity e1 = new BasicTestEntity();
+		template.insert(e1);
+		final BasicTestEntity e2 = new BasicTestEntity();
+		template.insert(e2);
+		final FetchPlanTestEntity e0 = new FetchPlanTestEntity();
+		e0.entity = e1;
+		e0.lazyEntity = e2;
+		template.insert(e0);
+		template.insert(new BasicEdgeTestEntity(e0, e1));
+		return e0;
+	}
+
+	@Test
+	public void withoutFetchPlan() {
+		final FetchPlanTestEntity e0 = insertEntity();
+		final FetchPlanTestEntity document = template.find(e0.id, FetchPlanTestEntity.class).get();
+		assertThat(document.entity, is(not(instanceOf(LazyLoadingProxy.class))));
+		assertThat(document.entity.id, is(e0.entity.id));
+		assertThat(document.lazyEntity, is(instanceOf(LazyLoadingProxy.class)));
+		assertThat(document.entities, is(not(instanceOf(LazyLoadingProxy.class))));
+		assertThat(document.entities.size(), is(1));
+	}
+
+	@Test
+	public void skipAndLazy() {
+		final FetchPlanTestEntity e0 = insertEntity();
+		final FetchPlanTestEntity document = template.withFetchPlan("summary",
+			() -> template.find(e0.id, FetchPlanTestEntity.class)).get();
+		assertThat(document.entity, is(nullValue()));
+		assertThat(document.lazyEntity, is(instanceOf(LazyLoadingProxy.class)));
+		assertThat(document.entities, is(instanceOf(LazyLoadingProxy.class)));
+		assertThat(document.entities.size(), is(1));
+	}
+
+	@Test
+	public void repsertSkippedKeepsAttributes() {
+		final FetchPlanTestEntity e0 = insertEntity();
+		final FetchPlanTestEntity document = template.withFetchPlan("summary",
+			() -> template.find(e0.id, FetchPlanTestEntity.class)).get();
+		final BasicTestEntity e3 = new BasicTestEntity();
+		template.insert(e3);
+		document.lazyEntity = e3;
+		template.repsert(document);
+		final FetchPlanTestEntity found = template.find(e0.id, FetchPlanTestEntity.class).get();
+		assertThat(found.entity.id, is(e0.entity.id));
+		assertThat(found.lazyEntity.getId(), is(e3.id));
+	}
+
+	@Test
+	public void replaceSkippedIsRejected() {
+		final FetchPlanTestEntity e0 = insertEntity();
+		final FetchPlanTestEntity document = template.withFetchPlan("summary",
+			() -> template.find(e0.id, FetchPlanTestEntity.class)).get();
+		try {
+			template.replace(document.id, document);
+			fail();
+		} catch (final InvalidDataAccessApiUsageException e) {
+		}
+		assertThat(template.find(e0.id, FetchPlanTestEntity.class).get().entity.id, is(e0.entity.id));
+	}
+
+	@Test
+	public void eager() {
+		final FetchPlanTestEntity e0 = insertEntity();
+		final FetchPlanTestEntity document = template.withFetchPlan("full",
+			() -> template.find(e0.id, FetchPlanTestEntity.class)).get();
+		assertThat(document.lazyEntity, is(not(instanceOf(LazyLoadingProxy.class))));
+		assertThat(document.lazyEntity.id, is(e0.lazyEntity.id));
+	}
+
+	@Test
+	public void cursorKeepsFetchPlan() {
+		insertEntity();
+		final ArangoCursor<FetchPlanTestEntity> cursor = template.withFetchPlan("summary",
+			() -> template.query("FOR e IN fetchPlanTestEntity RETURN e", FetchPlanTestEntity.class));
+		// the cursor is read after the fetch plan is no longer active
+		final List<FetchPlanTestEntity> documents = cursor.asListRemaining();
+		assertThat(documents.size(), is(1));
+		assertThat(documents.get(0).entity, is(nullValue()));
+		assertThat(documents.get(0).entities, is(instanceOf(LazyLoadingProxy.class)));
+	}
+
+	@Test
+	public void unknownFetchPlan() {
+		final FetchPlanTestEntity e0 = insertEntity();
+		final FetchPlanTestEntity document = template.withFetchPlan("unknown",
+			() -> template.find(e0.id, FetchPlanTestEntity.class)).get();
+		assertThat(document.entity, is(notNullValue()));
+		assertThat(document.lazyEntity, is(instanceOf(LazyLoadingProxy.class)));
+	}
+
+	@FetchPlan(name = "invalid", skip = "value")
+	public static class InvalidFetchPlanTestEntity extends BasicTestEntity {
+		private String value;
+	}
+
+	@Test(expected = MappingException.class)
+	public void fetchPlanOfNoAssociation() {
+		new ArangoMappingContext().getPersistentEntity(InvalidFetchPlanTestEntity.class);
+	}
+
+}
@@ -30,6 +30,7 @@ import static org.junit.Assert.assertThat;
 import java.util.Collection;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 
 import org.junit.Test;
 
@@ -74,6 +75,32 @@ public class FromMappingTest extends AbstractArangoTest {
 		}
 	}
 
+	public static class DocumentFromJoinTestEntity extends BasicTestEntity {
+		@From(join = true)
+		private Collection<BasicEdgeLazyTestEntity> entities;
+	}
+
+	@Test
+	public void documentFromJoin() {
+		final DocumentFromJoinTestEntity e0 = new DocumentFromJoinTestEntity();
+		template.insert(e0);
+		final DocumentFromJoinTestEntity e1 = new DocumentFromJoinTestEntity();
+		template.insert(e1);
+		final BasicEdgeLazyTestEntity edge0 = new BasicEdgeLazyTestEntity(e0, e1);
+		template.insert(edge0);
+		final BasicEdgeLazyTestEntity edge1 = new BasicEdgeLazyTestEntity(e0, e1);
+		template.insert(edge1);
+		final DocumentFromJoinTestEntity document = StreamSupport
+				.stream(template.findAll(DocumentFromJoinTestEntity.class).spliterator(), false)
+				.filter(e -> e.getId().equals(e0.getId())).findFirst().get();
+		assertThat(document.entities, is(notNullValue()));
+		assertThat(document.entities.size(), is(2));
+		for (final BasicEdgeLazyTestEntity e : document.entities) {
+			assertThat(e.getId(), is(isOneOf(edge0.getId(), edge1.getId())));
+			assertThat(e.getFrom().getId(), is(e0.getId()));
+		}
+	}
+
 	public static class DocumentFromLazyTestEntity extends BasicTestEntity {
 		@From(lazy = true)
 		private Collection<BasicEdgeLazyTestEntity> entities;
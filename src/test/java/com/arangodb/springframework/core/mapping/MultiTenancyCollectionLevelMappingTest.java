@@ -21,10 +21,12 @@
 package com.arangodb.springframework.core.mapping;
 
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
 import static org.junit.Assert.assertThat;
 
 import org.junit.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import com.arangodb.springframework.AbstractArangoTest;
 import com.arangodb.springframework.ArangoTestConfiguration;
@@ -67,4 +69,38 @@ public class MultiTenancyCollectionLevelMappingTest extends AbstractArangoTest {
 			is(1L));
 	}
 
+	@Document("#{'compiled'}_collection")
+	static class CompilableExpressionTestEntity {
+
+	}
+
+	@Document("literal_collection")
+	static class LiteralTestEntity {
+
+	}
+
+	@Test
+	public void expressionEvaluatedRepeatedly() {
+		// with SpelCompilerMode.MIXED the expressions are compiled after some interpreted evaluations, the one accessing
+		// the tenant provider bean is not compilable and stays interpreted
+		final ArangoPersistentEntity<?> compilable = template.getConverter().getMappingContext()
+				.getRequiredPersistentEntity(CompilableExpressionTestEntity.class);
+		final ArangoPersistentEntity<?> tenant = template.getConverter().getMappingContext()
+				.getRequiredPersistentEntity(MultiTenancyTestEntity.class);
+		for (int i = 0; i < 500; i++) {
+			assertThat(compilable.getCollection(), is("compiled_collection"));
+			tenantProvider.setId("tenant0" + i % 2);
+			assertThat(tenant.getCollection(), is("tenant0" + i % 2 + "_collection"));
+		}
+	}
+
+	@Test
+	public void literalWithoutExpression() {
+		final ArangoPersistentEntity<?> entity = template.getConverter().getMappingContext()
+				.getRequiredPersistentEntity(LiteralTestEntity.class);
+		assertThat(entity.getCollection(), is("literal_collection"));
+		assertThat(ReflectionTestUtils.getField(entity, "expression"), is(nullValue()));
+		assertThat(ReflectionTestUtils.getField(template, "databaseExpression"), is(nullValue()));
+	}
+
 }
@@ -20,16 +20,22 @@
 
 package com.arangodb.springframework.core.mapping;
 
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.isOneOf;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertThat;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -40,6 +46,8 @@ import com.arangodb.springframework.AbstractArangoTest;
 import com.arangodb.springframework.annotation.ArangoId;
 import com.arangodb.springframework.annotation.Document;
 import com.arangodb.springframework.annotation.Ref;
+import com.arangodb.springframework.core.convert.resolver.LazyLoadingCollection;
+import com.arangodb.springframework.core.convert.resolver.LazyLoadingProxy;
 import com.arangodb.springframework.core.mapping.testdata.BasicTestEntity;
 
 /**
@@ -83,6 +91,62 @@ public class RefMappingTest extends AbstractArangoTest {
 		assertThat(document.entity, is(notNullValue()));
 		assertThat(document.entity, instanceOf(BasicTestEntity.class));
 		assertThat(document.entity.getId(), is(e1.getId()));
+		assertThat(document.entity, instanceOf(LazyLoadingProxy.class));
+		// the proxy class is generated once per type
+		assertThat(template.find(e0.id, SingleReferenceLazyTestEntity.class).get().entity.getClass(),
+			is(sameInstance(document.entity.getClass())));
+	}
+
+	@Test
+	public void sharedRefSameInstance() {
+		final BasicTestEntity e1 = new BasicTestEntity();
+		template.insert(e1);
+		final SingleReferenceTestEntity e0 = new SingleReferenceTestEntity();
+		e0.entity = e1;
+		template.insert(e0);
+		final SingleReferenceTestEntity e2 = new SingleReferenceTestEntity();
+		e2.entity = e1;
+		template.insert(e2);
+		final List<SingleReferenceTestEntity> documents = new ArrayList<>();
+		template.findAll(SingleReferenceTestEntity.class).forEach(documents::add);
+		assertThat(documents.size(), is(2));
+		assertThat(documents.get(0).entity, is(sameInstance(documents.get(1).entity)));
+	}
+
+	public static class CyclicReferenceTestEntity extends BasicTestEntity {
+		@Ref
+		private CyclicReferenceTestEntity entity;
+	}
+
+	@Test
+	public void cyclicRef() {
+		final CyclicReferenceTestEntity e0 = new CyclicReferenceTestEntity();
+		template.insert(e0);
+		final CyclicReferenceTestEntity e1 = new CyclicReferenceTestEntity();
+		e1.entity = e0;
+		template.insert(e1);
+		e0.entity = e1;
+		template.update(e0.id, e0);
+		final CyclicReferenceTestEntity document = template.find(e0.id, CyclicReferenceTestEntity.class).get();
+		assertThat(document.entity.id, is(e1.id));
+		assertThat(document.entity.entity, is(sameInstance(document)));
+	}
+
+	@Test
+	public void identityMapAcrossReads() {
+		final BasicTestEntity e1 = new BasicTestEntity();
+		template.insert(e1);
+		final SingleReferenceTestEntity e0 = new SingleReferenceTestEntity();
+		e0.entity = e1;
+		template.insert(e0);
+		template.withIdentityMap(() -> {
+			final SingleReferenceTestEntity document = template.find(e0.id, SingleReferenceTestEntity.class).get();
+			assertThat(template.find(e1.id, BasicTestEntity.class).get(), is(sameInstance(document.entity)));
+			assertThat(template.find(e0.id, SingleReferenceTestEntity.class).get(), is(sameInstance(document)));
+			return null;
+		});
+		assertThat(template.find(e1.id, BasicTestEntity.class).get(),
+			is(not(sameInstance(template.find(e1.id, BasicTestEntity.class).get()))));
 	}
 
 	public static class MultiReferenceTestEntity extends BasicTestEntity {
@@ -110,6 +174,38 @@ public class RefMappingTest extends AbstractArangoTest {
 		}
 	}
 
+	@Test
+	public void multiRefPreservesOrder() {
+		final BasicTestEntity e1 = new BasicTestEntity();
+		template.insert(e1);
+		final BasicTestEntity e2 = new BasicTestEntity();
+		template.insert(e2);
+		final BasicTestEntity e3 = new BasicTestEntity();
+		template.insert(e3);
+		final SingleReferenceTestEntity e4 = new SingleReferenceTestEntity();
+		template.insert(e4);
+		final MultiReferenceTestEntity e0 = new MultiReferenceTestEntity();
+		e0.entities = Arrays.asList(e3, e4, e1, e2);
+		template.insert(e0);
+		final MultiReferenceTestEntity document = template.find(e0.id, MultiReferenceTestEntity.class).get();
+		assertThat(document.entities.stream().map(BasicTestEntity::getId).collect(Collectors.toList()),
+			is(Arrays.asList(e3.getId(), e4.getId(), e1.getId(), e2.getId())));
+		assertThat(document.entities.stream().skip(1).findFirst().get(), instanceOf(SingleReferenceTestEntity.class));
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void multiRefMissing() {
+		final BasicTestEntity e1 = new BasicTestEntity();
+		template.insert(e1);
+		final BasicTestEntity e2 = new BasicTestEntity();
+		template.insert(e2);
+		final MultiReferenceTestEntity e0 = new MultiReferenceTestEntity();
+		e0.entities = Arrays.asList(e1, e2);
+		template.insert(e0);
+		template.delete(e1.getId(), BasicTestEntity.class);
+		template.find(e0.id, MultiReferenceTestEntity.class);
+	}
+
 	public static class MultiReferenceLazyTestEntity extends BasicTestEntity {
 		@Ref(lazy = true)
 		private Collection<BasicTestEntity> entities;
@@ -135,6 +231,30 @@ public class RefMappingTest extends AbstractArangoTest {
 		}
 	}
 
+	@Test
+	public void multiRefLazyLoadsAllAtOnce() {
+		final BasicTestEntity e1 = new BasicTestEntity();
+		template.insert(e1);
+		final BasicTestEntity e2 = new BasicTestEntity();
+		template.insert(e2);
+		final MultiReferenceLazyTestEntity e0 = new MultiReferenceLazyTestEntity();
+		e0.entities = Arrays.asList(e1, e2);
+		template.insert(e0);
+		final MultiReferenceLazyTestEntity document = template.find(e0.id, MultiReferenceLazyTestEntity.class).get();
+		assertThat(document.entities, instanceOf(LazyLoadingCollection.class));
+		final LazyLoadingCollection lazy = (LazyLoadingCollection) document.entities;
+		assertThat(lazy.getRefIds(), contains("basicTestEntity/" + e1.id, "basicTestEntity/" + e2.id));
+		assertThat(lazy.isResolved(), is(false));
+		// saving an unresolved collection keeps the references
+		template.repsert(document);
+		assertThat(lazy.isResolved(), is(false));
+		final Iterator<BasicTestEntity> iterator = document.entities.iterator();
+		assertThat(lazy.isResolved(), is(true));
+		assertThat(iterator.next().id, is(e1.id));
+		assertThat(iterator.next().id, is(e2.id));
+		assertThat(template.find(e0.id, MultiReferenceLazyTestEntity.class).get().entities.size(), is(2));
+	}
+
 	public static class NestedReferenceTestEntity extends BasicTestEntity {
 		private NestedReferenceSubTestEntity sub;
 	}
@@ -27,8 +27,10 @@ import static org.hamcrest.Matchers.isOneOf;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.junit.Assert.assertThat;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -38,6 +40,7 @@ import com.arangodb.springframework.AbstractArangoTest;
 import com.arangodb.springframework.annotation.Relations;
 import com.arangodb.springframework.core.mapping.testdata.BasicEdgeTestEntity;
 import com.arangodb.springframework.core.mapping.testdata.BasicTestEntity;
+import com.arangodb.util.MapBuilder;
 
 /**
  * @author Mark Vollmary
@@ -72,6 +75,49 @@ public class RelationsMappingTest extends AbstractArangoTest {
 		}
 	}
 
+	public static class RelationsJoinTestEntity extends BasicTestEntity {
+		@Relations(edges = BasicEdgeTestEntity.class, join = true)
+		private Collection<BasicTestEntity> entities;
+	}
+
+	@Test
+	public void relationsJoin() {
+		final BasicTestEntity e1 = new BasicTestEntity();
+		template.insert(e1);
+		final BasicTestEntity e2 = new BasicTestEntity();
+		template.insert(e2);
+		final RelationsJoinTestEntity e0 = new RelationsJoinTestEntity();
+		template.insert(e0);
+		template.insert(new BasicEdgeTestEntity(e0, e1));
+		template.insert(new BasicEdgeTestEntity(e0, e2));
+
+		final List<RelationsJoinTestEntity> documents = new ArrayList<>();
+		template.findAll(RelationsJoinTestEntity.class).forEach(documents::add);
+		assertThat(documents.size(), is(1));
+		assertThat(documents.get(0).entities.stream().map(BasicTestEntity::getId).collect(Collectors.toList()),
+			hasItems(e1.getId(), e2.getId()));
+		assertThat(documents.get(0).entities.size(), is(2));
+	}
+
+	@Test
+	public void relationsReadFromJoin() {
+		final BasicTestEntity e1 = new BasicTestEntity();
+		template.insert(e1);
+		final BasicTestEntity e2 = new BasicTestEntity();
+		template.insert(e2);
+		final RelationsJoinTestEntity e0 = new RelationsJoinTestEntity();
+		template.insert(e0);
+		template.insert(new BasicEdgeTestEntity(e0, e1));
+		template.insert(new BasicEdgeTestEntity(e0, e2));
+
+		// the embedded relation is read instead of resolving the edges
+		final RelationsJoinTestEntity document = template.query(
+			"FOR e IN relationsJoinTestEntity RETURN MERGE(e, { entities: [DOCUMENT(@id)] })",
+			new MapBuilder().put("id", "basicTestEntity/" + e1.getId()).get(), RelationsJoinTestEntity.class).first();
+		assertThat(document.entities.size(), is(1));
+		assertThat(document.entities.iterator().next().getId(), is(e1.getId()));
+	}
+
 	public static class RelationsLazyTestEntity extends BasicTestEntity {
 		@Relations(edges = BasicEdgeTestEntity.class, lazy = true)
 		private Collection<BasicTestEntity> entities;
@@ -20,19 +20,24 @@
 
 package com.arangodb.springframework.core.mapping;
 
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.isOneOf;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
 import static org.junit.Assert.assertThat;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.stream.Collectors;
 
 import org.junit.Test;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
 
 import com.arangodb.springframework.AbstractArangoTest;
+import com.arangodb.springframework.annotation.Edge;
 import com.arangodb.springframework.annotation.To;
 import com.arangodb.springframework.core.mapping.testdata.BasicEdgeLazyTestEntity;
 import com.arangodb.springframework.core.mapping.testdata.BasicEdgeTestEntity;
@@ -230,4 +235,57 @@ public class ToMappingTest extends AbstractArangoTest {
 		assertThat(document.entity.getTo().getId(), is(notNullValue()));
 		assertThat(document.entity.getTo().getId(), is(e0.getId()));
 	}
+
+	@Edge
+	public static class RankedEdgeTestEntity extends BasicEdgeTestEntity {
+		private int rank;
+		private String note;
+
+		public RankedEdgeTestEntity() {
+			super();
+		}
+
+		public RankedEdgeTestEntity(final BasicTestEntity from, final BasicTestEntity to, final int rank) {
+			super(from, to);
+			this.rank = rank;
+			this.note = "note" + rank;
+		}
+	}
+
+	public static class DocumentToLimitTestEntity extends BasicTestEntity {
+		@To(sort = "rank DESC", limit = 2, fields = "rank")
+		private List<RankedEdgeTestEntity> entities;
+		@To(sort = "rank")
+		private RankedEdgeTestEntity lowest;
+	}
+
+	@Test
+	public void documentToLimitSortFields() {
+		final DocumentToLimitTestEntity e0 = new DocumentToLimitTestEntity();
+		template.insert(e0);
+		final BasicTestEntity e1 = new BasicTestEntity();
+		template.insert(e1);
+		for (final int rank : new int[] { 2, 3, 1 }) {
+			template.insert(new RankedEdgeTestEntity(e1, e0, rank));
+		}
+		final DocumentToLimitTestEntity document = template.find(e0.id, DocumentToLimitTestEntity.class).get();
+		assertThat(document.entities.stream().map(e -> e.rank).collect(Collectors.toList()), contains(3, 2));
+		for (final RankedEdgeTestEntity e : document.entities) {
+			assertThat(e.getId(), is(notNullValue()));
+			assertThat(e.note, is(nullValue()));
+		}
+		assertThat(document.lowest.rank, is(1));
+		assertThat(document.lowest.note, is("note1"));
+	}
+
+	@Test(expected = InvalidDataAccessApiUsageException.class)
+	public void documentToFieldsIsReadOnly() {
+		final DocumentToLimitTestEntity e0 = new DocumentToLimitTestEntity();
+		template.insert(e0);
+		final BasicTestEntity e1 = new BasicTestEntity();
+		template.insert(e1);
+		template.insert(new RankedEdgeTestEntity(e1, e0, 1));
+		final DocumentToLimitTestEntity document = template.find(e0.id, DocumentToLimitTestEntity.class).get();
+		template.repsert(document.entities.iterator().next());
+	}
 }
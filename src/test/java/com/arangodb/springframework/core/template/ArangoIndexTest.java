@@ -24,12 +24,16 @@ import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertThat;
 
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.stream.Collectors;
 
 import org.junit.Test;
 
+import com.arangodb.entity.IndexEntity;
 import com.arangodb.entity.IndexType;
 import com.arangodb.springframework.AbstractArangoTest;
+import com.arangodb.springframework.ArangoTestConfiguration;
 import com.arangodb.springframework.annotation.Document;
 import com.arangodb.springframework.annotation.FulltextIndex;
 import com.arangodb.springframework.annotation.FulltextIndexed;
@@ -586,4 +590,27 @@ public class ArangoIndexTest extends AbstractArangoTest {
 			is(1 + 3));
 	}
 
+	@Document("reconcileSchemaTestEntity")
+	@HashIndex(fields = { "a" }, unique = true)
+	public static class ReconcileSchemaTestEntity {
+		@SkiplistIndexed
+		private String b;
+	}
+
+	@Test
+	public void reconcileSchema() {
+		template.getConverter().getMappingContext().getRequiredPersistentEntity(ReconcileSchemaTestEntity.class);
+		((ArangoTemplate) template).reconcileSchema();
+		final Collection<IndexEntity> indexes = template.driver().db(ArangoTestConfiguration.DB)
+				.collection("reconcileSchemaTestEntity").getIndexes();
+		assertThat(indexes.stream().map(i -> i.getType()).collect(Collectors.toList()),
+			hasItems(IndexType.primary, IndexType.hash, IndexType.skiplist));
+		assertThat(indexes.size(), is(3));
+		assertThat(IndexDefinition.hash(Arrays.asList("a"), true, false, true).isPresent(indexes), is(true));
+		assertThat(IndexDefinition.hash(Arrays.asList("a"), false, false, true).isPresent(indexes), is(false));
+		assertThat(IndexDefinition.skiplist(Arrays.asList("b"), false, false, true).isPresent(indexes), is(true));
+		((ArangoTemplate) template).reconcileSchema();
+		assertThat(template.collection(ReconcileSchemaTestEntity.class).getIndexes().size(), is(3));
+	}
+
 }
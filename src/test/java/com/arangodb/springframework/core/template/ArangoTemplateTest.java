@@ -24,6 +24,7 @@ import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertThat;
 
 import java.util.Arrays;
@@ -45,6 +46,7 @@ import com.arangodb.entity.DocumentEntity;
 import com.arangodb.entity.MultiDocumentEntity;
 import com.arangodb.model.AqlQueryOptions;
 import com.arangodb.springframework.AbstractArangoTest;
+import com.arangodb.springframework.core.BulkOptions;
 import com.arangodb.springframework.core.ArangoOperations.UpsertStrategy;
 import com.arangodb.springframework.testdata.Address;
 import com.arangodb.springframework.testdata.Customer;
@@ -186,6 +188,27 @@ public class ArangoTemplateTest extends AbstractArangoTest {
 		}
 	}
 
+	@Test
+	public void getDocumentsInChunks() {
+		final List<Customer> inserted = Arrays.asList(new Customer("John", "Doe", 30),
+			new Customer("John2", "Doe", 30), new Customer("John3", "Doe", 30), new Customer("John4", "Doe", 30),
+			new Customer("John5", "Doe", 30));
+		template.insert(inserted, Customer.class);
+		((ArangoTemplate) template).setFindChunkSize(2);
+		try {
+			final List<String> ids = Arrays.asList(inserted.get(4).getId(), inserted.get(0).getId(), "missing",
+				inserted.get(2).getId(), inserted.get(1).getId(), inserted.get(3).getId());
+			final Iterable<Customer> customers = template.find(ids, Customer.class);
+			final List<String> found = StreamSupport.stream(customers.spliterator(), false).map(e -> e.getId())
+					.collect(Collectors.toList());
+			assertThat(found, is(Arrays.asList(inserted.get(4).getId(), inserted.get(0).getId(),
+				inserted.get(2).getId(), inserted.get(1).getId(), inserted.get(3).getId())));
+			assertThat(customers.iterator().next(), is(sameInstance(customers.iterator().next())));
+		} finally {
+			((ArangoTemplate) template).setFindChunkSize(BulkOptions.DEFAULT_CHUNK_SIZE);
+		}
+	}
+
 	@Test
 	public void getAllDocuments() {
 		final Customer c1 = new Customer("John", "Doe", 30);
@@ -426,4 +449,16 @@ public class ArangoTemplateTest extends AbstractArangoTest {
 		assertThat(template.collection(NewEntityTest.class).count(), is(2L));
 	}
 
+	@Test
+	public void insertDocumentAfterDropCollection() {
+		template.insert(new Customer("John", "Doe", 30));
+		template.collection(Customer.class).drop();
+		final DocumentEntity res = template.insert(new Customer("Jane", "Doe", 26));
+		assertThat(res.getId(), is(notNullValue()));
+		assertThat(template.collection(Customer.class).count(), is(1L));
+		template.dropDatabase();
+		template.insert(new Customer("Jane", "Doe", 26));
+		assertThat(template.collection(Customer.class).count(), is(1L));
+	}
+
 }
@@ -0,0 +1,200 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2018 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.core.template;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+import com.arangodb.entity.DocumentImportEntity;
+import com.arangodb.model.DocumentImportOptions;
+import com.arangodb.model.DocumentImportOptions.OnDuplicate;
+import com.arangodb.springframework.AbstractArangoTest;
+import com.arangodb.springframework.core.ArangoOperations.UpsertStrategy;
+import com.arangodb.springframework.core.BulkOptions;
+import com.arangodb.springframework.core.BulkWriteException;
+import com.arangodb.springframework.core.BulkWriteResult;
+import com.arangodb.springframework.testdata.Customer;
+
+/**
+ * @author Mark Vollmary
+ *
+ */
+public class BulkWriterTest extends AbstractArangoTest {
+
+	public BulkWriterTest() {
+		super(Customer.class);
+	}
+
+	private static List<Customer> customers(final int count) {
+		return IntStream.range(0, count).mapToObj(i -> new Customer("John" + i, "Doe", i))
+				.collect(Collectors.toList());
+	}
+
+	@Test
+	public void insertInChunks() {
+		final List<Customer> customers = customers(25);
+		final BulkWriteResult res = template.bulkWriter(Customer.class, new BulkOptions().chunkSize(10))
+				.insert(customers);
+		assertThat(res.getDocuments(), is(25L));
+		assertThat(res.getChunks(), is(3));
+		assertThat(res.getErrors().isEmpty(), is(true));
+		for (final Customer customer : customers) {
+			assertThat(customer.getId(), is(notNullValue()));
+		}
+		assertThat(template.collection(Customer.class).count(), is(25L));
+	}
+
+	@Test
+	public void insertStream() {
+		final Stream<Customer> customers = IntStream.range(0, 7).mapToObj(i -> new Customer("John" + i, "Doe", i));
+		final BulkWriteResult res = template.bulkWriter(Customer.class, new BulkOptions().chunkSize(3))
+				.insert(customers::iterator);
+		assertThat(res.getDocuments(), is(7L));
+		assertThat(res.getChunks(), is(3));
+	}
+
+	@Test
+	public void insertWithErrors() {
+		final Customer c1 = new Customer("John", "Doe", 30);
+		c1.setId("1");
+		final Customer c2 = new Customer("Jane", "Doe", 26);
+		c2.setId("1");
+		final Customer c3 = new Customer("Jack", "Doe", 35);
+		final BulkWriteResult res = template.bulkWriter(Customer.class, new BulkOptions().chunkSize(2))
+				.insert(Arrays.asList(c1, c2, c3));
+		assertThat(res.getDocuments(), is(2L));
+		assertThat(res.getErrors().size(), is(1));
+		assertThat(c3.getId(), is(notNullValue()));
+	}
+
+	@Test
+	public void updateAndReplaceInChunks() {
+		final List<Customer> customers = customers(5);
+		template.insert(customers, Customer.class);
+		final List<Customer> updates = new ArrayList<>();
+		for (final Customer customer : customers) {
+			customer.setAge(99);
+			updates.add(customer);
+		}
+		BulkWriteResult res = template.bulkWriter(Customer.class, new BulkOptions().chunkSize(2)).update(updates);
+		assertThat(res.getDocuments(), is(5L));
+		assertThat(template.find(customers.get(4).getId(), Customer.class).get().getAge(), is(99));
+		customers.get(0).setAge(1);
+		res = template.bulkWriter(Customer.class).replace(customers);
+		assertThat(res.getChunks(), is(1));
+		assertThat(template.find(customers.get(0).getId(), Customer.class).get().getAge(), is(1));
+	}
+
+	@Test
+	public void upsertByKey() {
+		final List<Customer> customers = customers(3);
+		template.insert(customers, Customer.class);
+		customers.get(0).setAge(99);
+		customers.add(new Customer("Jane", "Doe", 26));
+		final BulkWriteResult res = template.upsert(customers, Customer.class, UpsertStrategy.REPLACE,
+			new BulkOptions().chunkSize(2));
+		assertThat(res.getDocuments(), is(4L));
+		assertThat(res.getChunks(), is(2));
+		assertThat(customers.get(3).getId(), is(notNullValue()));
+		assertThat(template.collection(Customer.class).count(), is(4L));
+		assertThat(template.find(customers.get(0).getId(), Customer.class).get().getAge(), is(99));
+	}
+
+	@Test
+	public void upsertByProperty() {
+		template.insert(customers(3), Customer.class);
+		final List<Customer> customers = customers(4);
+		customers.forEach(customer -> customer.setAge(99));
+		final BulkWriteResult res = template.bulkWriter(Customer.class).upsert(customers, UpsertStrategy.UPDATE,
+			"name");
+		assertThat(res.getDocuments(), is(4L));
+		assertThat(template.collection(Customer.class).count(), is(4L));
+		for (final Customer customer : customers) {
+			assertThat(customer.getId(), is(notNullValue()));
+			assertThat(template.find(customer.getId(), Customer.class).get().getAge(), is(99));
+		}
+	}
+
+	@Test
+	public void importDocuments() {
+		final List<Customer> customers = customers(25);
+		final DocumentImportEntity res = template.importDocuments(customers, Customer.class,
+			new DocumentImportOptions(), new BulkOptions().chunkSize(10).parallelism(3));
+		assertThat(res.getCreated(), is(25));
+		assertThat(res.getErrors(), is(0));
+		for (final Customer customer : customers) {
+			assertThat(customer.getId(), is(notNullValue()));
+			assertThat(customer.getArangoId(), is("customer/" + customer.getId()));
+		}
+		assertThat(template.find(customers.get(24).getId(), Customer.class).get().getName(), is("John24"));
+	}
+
+	@Test
+	public void importDocumentsOnDuplicate() {
+		final List<Customer> customers = customers(5);
+		template.importDocuments(customers, Customer.class, new DocumentImportOptions());
+		customers.get(0).setAge(99);
+		final DocumentImportEntity res = template.importDocuments(customers, Customer.class,
+			new DocumentImportOptions().onDuplicate(OnDuplicate.ignore), new BulkOptions().chunkSize(2));
+		assertThat(res.getCreated(), is(0));
+		assertThat(res.getIgnored(), is(5));
+		assertThat(template.find(customers.get(0).getId(), Customer.class).get().getAge(), is(0));
+	}
+
+	@Test
+	public void failedChunkReportsWrittenChunks() {
+		final List<Customer> customers = customers(5);
+		customers.get(0).setId("1");
+		customers.get(2).setId("1");
+		try {
+			template.importDocuments(customers, Customer.class, new DocumentImportOptions().complete(true),
+				new BulkOptions().chunkSize(2));
+			fail();
+		} catch (final BulkWriteException e) {
+			assertThat(e.getCause(), is(notNullValue()));
+			assertThat(e.getWrittenChunks(), is(Arrays.asList(0)));
+		}
+		assertThat(template.collection(Customer.class).count(), is(2L));
+	}
+
+	@Test
+	public void importDocumentsWithoutUpdateDBFields() {
+		final List<Customer> customers = customers(3);
+		final DocumentImportEntity res = template.importDocuments(customers, Customer.class,
+			new DocumentImportOptions(), new BulkOptions().updateDBFields(false));
+		assertThat(res.getCreated(), is(3));
+		assertThat(customers.get(0).getId(), is(nullValue()));
+		assertThat(template.collection(Customer.class).count(), is(3L));
+	}
+
+}
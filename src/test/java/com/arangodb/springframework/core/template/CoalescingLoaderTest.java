@@ -0,0 +1,97 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2018 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.core.template;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.arangodb.springframework.AbstractArangoTest;
+import com.arangodb.springframework.testdata.Customer;
+
+/**
+ * @author Mark Vollmary
+ *
+ */
+public class CoalescingLoaderTest extends AbstractArangoTest {
+
+	public CoalescingLoaderTest() {
+		super(Customer.class);
+	}
+
+	private CoalescingLoader enableLoader(final long batchWindow, final int maxBatchSize) {
+		final CoalescingLoader loader = new CoalescingLoader(batchWindow, TimeUnit.MILLISECONDS, maxBatchSize);
+		((ArangoTemplate) template).setCoalescingLoader(loader);
+		return loader;
+	}
+
+	@After
+	public void disableLoader() {
+		((ArangoTemplate) template).setCoalescingLoader(null);
+	}
+
+	@Test
+	public void concurrentFind() throws Exception {
+		final List<Customer> customers = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			customers.add(new Customer("John" + i, "Doe", i));
+		}
+		template.insert(customers, Customer.class);
+		// the batch is only sent when it is full, so that all lookups are merged
+		final CoalescingLoader loader = enableLoader(60000, customers.size());
+		final ExecutorService executor = Executors.newFixedThreadPool(customers.size());
+		try {
+			final List<CompletableFuture<Optional<Customer>>> futures = new ArrayList<>();
+			for (final Customer customer : customers) {
+				futures.add(CompletableFuture.supplyAsync(() -> template.find(customer.getId(), Customer.class),
+					executor));
+			}
+			for (int i = 0; i < customers.size(); i++) {
+				assertThat(futures.get(i).get(10, TimeUnit.SECONDS).get().getName(), is("John" + i));
+			}
+		} finally {
+			executor.shutdown();
+		}
+		assertThat(loader.getLookups(), is(5L));
+		assertThat(loader.getRequests(), is(1L));
+	}
+
+	@Test
+	public void findMissingDocument() {
+		final CoalescingLoader loader = enableLoader(1, 100);
+		final Customer customer = new Customer("John", "Doe", 30);
+		template.insert(customer);
+		assertThat(template.find(customer.getId(), Customer.class).isPresent(), is(true));
+		assertThat(template.find("missing", Customer.class).isPresent(), is(false));
+		assertThat(loader.getRequests(), is(2L));
+	}
+
+}
@@ -0,0 +1,110 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2018 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.core.template;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.arangodb.ArangoDBException;
+
+/**
+ * @author Mark Vollmary
+ *
+ */
+public class CollectionCacheValueTest {
+
+	@Test
+	public void initializeOnceForConcurrentCallers() throws Exception {
+		final CollectionCacheValue value = new CollectionCacheValue(null);
+		final AtomicInteger collectionCalls = new AtomicInteger();
+		final AtomicInteger entityCalls = new AtomicInteger();
+		final CountDownLatch start = new CountDownLatch(1);
+		final ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			final Collection<CompletableFuture<Void>> futures = new ArrayList<>();
+			for (int i = 0; i < 32; i++) {
+				futures.add(CompletableFuture.runAsync(() -> {
+					try {
+						start.await();
+					} catch (final InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+					value.initializeCollection(() -> {
+						collectionCalls.incrementAndGet();
+						sleep();
+					});
+					value.initializeEntityClass(String.class, () -> {
+						entityCalls.incrementAndGet();
+						sleep();
+					});
+				}, executor));
+			}
+			start.countDown();
+			for (final CompletableFuture<Void> future : futures) {
+				future.get(10, TimeUnit.SECONDS);
+			}
+		} finally {
+			executor.shutdown();
+		}
+		assertThat(collectionCalls.get(), is(1));
+		assertThat(entityCalls.get(), is(1));
+		value.initializeEntityClass(Integer.class, entityCalls::incrementAndGet);
+		assertThat(entityCalls.get(), is(2));
+	}
+
+	@Test
+	public void retryFailedInitialization() {
+		final CollectionCacheValue value = new CollectionCacheValue(null);
+		final AtomicInteger calls = new AtomicInteger();
+		try {
+			value.initializeCollection(() -> {
+				calls.incrementAndGet();
+				throw new ArangoDBException("failed");
+			});
+			fail();
+		} catch (final ArangoDBException e) {
+		}
+		value.initializeCollection(calls::incrementAndGet);
+		value.initializeCollection(calls::incrementAndGet);
+		assertThat(calls.get(), is(2));
+	}
+
+	private static void sleep() {
+		try {
+			Thread.sleep(50);
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
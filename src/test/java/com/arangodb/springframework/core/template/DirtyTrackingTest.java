@@ -0,0 +1,185 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2018 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.core.template;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.annotation.Id;
+
+import com.arangodb.springframework.AbstractArangoTest;
+import com.arangodb.springframework.annotation.HashIndexed;
+import com.arangodb.springframework.core.mapping.event.CustomerEventListener;
+import com.arangodb.springframework.testdata.Customer;
+
+/**
+ * @author Mark Vollmary
+ *
+ */
+public class DirtyTrackingTest extends AbstractArangoTest {
+
+	@Autowired
+	private CustomerEventListener listener;
+
+	public DirtyTrackingTest() {
+		super(Customer.class);
+	}
+
+	@Before
+	public void enableDirtyTracking() {
+		((ArangoTemplate) template).setDirtyTracking(true);
+	}
+
+	@After
+	public void disableDirtyTracking() {
+		((ArangoTemplate) template).setDirtyTracking(false);
+	}
+
+	@Test
+	public void repsertOnlyChangedAttributes() {
+		final Customer customer = new Customer("John", "Doe", 30);
+		template.insert(customer);
+		final Customer c1 = template.find(customer.getId(), Customer.class).get();
+		final Customer c2 = template.find(customer.getId(), Customer.class).get();
+		c2.setName("Jack");
+		template.repsert(c2);
+		c1.setAge(31);
+		template.repsert(c1);
+		final Customer found = template.find(customer.getId(), Customer.class).get();
+		assertThat(found.getName(), is("Jack"));
+		assertThat(found.getAge(), is(31));
+		assertThat(c1.getRev(), is(found.getRev()));
+	}
+
+	@Test
+	public void repsertWithoutChanges() {
+		final Customer customer = new Customer("John", "Doe", 30);
+		template.insert(customer);
+		final Customer found = template.find(customer.getId(), Customer.class).get();
+		template.repsert(found);
+		assertThat(found.getRev(), is(customer.getRev()));
+		assertThat(template.find(customer.getId(), Customer.class).get().getRev(), is(customer.getRev()));
+	}
+
+	@Test
+	public void repsertRemovedAttribute() {
+		final Customer customer = new Customer("John", "Doe", 30);
+		template.insert(customer);
+		final Customer found = template.find(customer.getId(), Customer.class).get();
+		found.setName(null);
+		template.repsert(found);
+		assertThat(found.getRev(), is(not(customer.getRev())));
+		assertThat(template.find(customer.getId(), Customer.class).get().getName(), is(nullValue()));
+	}
+
+	@Test
+	public void repsertDeletedDocument() {
+		final Customer customer = new Customer("John", "Doe", 30);
+		template.insert(customer);
+		final Customer found = template.find(customer.getId(), Customer.class).get();
+		template.delete(customer.getId(), Customer.class);
+		found.setAge(31);
+		template.repsert(found);
+		assertThat(template.find(customer.getId(), Customer.class).get().getAge(), is(31));
+	}
+
+	@Test
+	public void repsertMultipleDeletedDocumentSaveEvents() {
+		final Customer john = new Customer("John", "Doe", 30);
+		final Customer jane = new Customer("Jane", "Doe", 26);
+		template.insert(Arrays.asList(john, jane), Customer.class);
+		final List<Customer> found = new ArrayList<>();
+		template.findAll(Customer.class).forEach(found::add);
+		template.delete(john.getId(), Customer.class);
+		found.forEach(customer -> customer.setAge(40));
+		listener.beforeSaveEvents.clear();
+		listener.afterSaveEvents.clear();
+		template.repsert(found, Customer.class);
+		assertThat(listener.beforeSaveEvents.size(), is(2));
+		assertThat(listener.afterSaveEvents.size(), is(2));
+		assertThat(template.find(john.getId(), Customer.class).get().getAge(), is(40));
+	}
+
+	@Test
+	public void repsertMultipleFromQuery() {
+		final Customer john = new Customer("John", "Doe", 30);
+		final Customer jane = new Customer("Jane", "Doe", 26);
+		template.insert(Arrays.asList(john, jane), Customer.class);
+		final List<Customer> found = new ArrayList<>();
+		template.findAll(Customer.class).forEach(found::add);
+		for (final Customer customer : found) {
+			if (customer.getName().equals("John")) {
+				customer.setAge(31);
+			}
+		}
+		template.repsert(found, Customer.class);
+		assertThat(template.find(john.getId(), Customer.class).get().getAge(), is(31));
+		assertThat(template.find(jane.getId(), Customer.class).get().getRev(), is(jane.getRev()));
+	}
+
+	public static class UniqueNameTestEntity {
+		@Id
+		private String id;
+		@HashIndexed(unique = true)
+		private String name;
+		private int age;
+
+		public UniqueNameTestEntity() {
+			super();
+		}
+
+		public UniqueNameTestEntity(final String name) {
+			super();
+			this.name = name;
+		}
+	}
+
+	@Test
+	public void repsertMultipleWithError() {
+		final UniqueNameTestEntity john = new UniqueNameTestEntity("John");
+		final UniqueNameTestEntity jane = new UniqueNameTestEntity("Jane");
+		template.insert(Arrays.asList(john, jane), UniqueNameTestEntity.class);
+		final UniqueNameTestEntity foundJohn = template.find(john.id, UniqueNameTestEntity.class).get();
+		final UniqueNameTestEntity foundJane = template.find(jane.id, UniqueNameTestEntity.class).get();
+		foundJohn.age = 31;
+		foundJane.name = "John";
+		try {
+			template.repsert(Arrays.asList(foundJohn, foundJane), UniqueNameTestEntity.class);
+			fail();
+		} catch (final DataAccessException e) {
+		}
+		assertThat(template.find(john.id, UniqueNameTestEntity.class).get().age, is(31));
+		assertThat(template.find(jane.id, UniqueNameTestEntity.class).get().name, is("Jane"));
+	}
+
+}
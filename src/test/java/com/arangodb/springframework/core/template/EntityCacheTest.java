@@ -0,0 +1,148 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2018 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.core.template;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.arangodb.springframework.AbstractArangoTest;
+import com.arangodb.springframework.ArangoTestConfiguration;
+import com.arangodb.springframework.core.template.EntityCache.Mode;
+import com.arangodb.springframework.testdata.Customer;
+
+/**
+ * @author Mark Vollmary
+ *
+ */
+public class EntityCacheTest extends AbstractArangoTest {
+
+	public EntityCacheTest() {
+		super(Customer.class);
+	}
+
+	private EntityCache enableCache(final int maxSize, final long timeToLive, final Mode mode) {
+		final EntityCache cache = new EntityCache(maxSize, timeToLive, TimeUnit.MILLISECONDS, mode);
+		((ArangoTemplate) template).setEntityCache(cache);
+		return cache;
+	}
+
+	@After
+	public void disableCache() {
+		((ArangoTemplate) template).setEntityCache(null);
+	}
+
+	private void updateAgeBypassingTemplate(final int age) {
+		template.driver().db(ArangoTestConfiguration.DB)
+				.query("FOR c IN customer UPDATE c WITH { age: " + age + " } IN customer", null, null, Object.class);
+	}
+
+	@Test
+	public void trust() {
+		final EntityCache cache = enableCache(10, 60000, Mode.TRUST);
+		final Customer customer = new Customer("John", "Doe", 30);
+		template.insert(customer);
+		updateAgeBypassingTemplate(99);
+		assertThat(template.find(customer.getId(), Customer.class).get().getAge(), is(30));
+		assertThat(cache.getStatistics(Customer.class).getHits(), is(1L));
+		assertThat(cache.getStatistics(Customer.class).getMisses(), is(0L));
+	}
+
+	@Test
+	public void validate() {
+		final EntityCache cache = enableCache(10, 60000, Mode.VALIDATE);
+		final Customer customer = new Customer("John", "Doe", 30);
+		template.insert(customer);
+		assertThat(template.find(customer.getId(), Customer.class).get().getAge(), is(30));
+		assertThat(cache.getStatistics(Customer.class).getHits(), is(1L));
+		updateAgeBypassingTemplate(99);
+		assertThat(template.find(customer.getId(), Customer.class).get().getAge(), is(99));
+		assertThat(cache.getStatistics(Customer.class).getMisses(), is(1L));
+		assertThat(template.find(customer.getId(), Customer.class).get().getAge(), is(99));
+		assertThat(cache.getStatistics(Customer.class).getHits(), is(2L));
+	}
+
+	@Test
+	public void validateDeletedDocument() {
+		enableCache(10, 60000, Mode.VALIDATE);
+		final Customer customer = new Customer("John", "Doe", 30);
+		template.insert(customer);
+		template.query("FOR c IN customer REMOVE c IN customer", Object.class);
+		assertThat(template.find(customer.getId(), Customer.class).isPresent(), is(false));
+	}
+
+	@Test
+	public void invalidateOnWrite() {
+		enableCache(10, 60000, Mode.TRUST);
+		final Customer customer = new Customer("John", "Doe", 30);
+		template.insert(customer);
+		customer.setAge(31);
+		template.update(customer.getId(), customer);
+		assertThat(template.find(customer.getId(), Customer.class).get().getAge(), is(31));
+		template.delete(customer.getId(), Customer.class);
+		assertThat(template.find(customer.getId(), Customer.class).isPresent(), is(false));
+	}
+
+	@Test
+	public void invalidateOnModificationQuery() {
+		final EntityCache cache = enableCache(10, 60000, Mode.TRUST);
+		final Customer customer = new Customer("John", "Doe", 30);
+		template.insert(customer);
+		template.query("FOR c IN customer UPDATE c WITH { age: 99 } IN customer", Object.class);
+		assertThat(template.find(customer.getId(), Customer.class).get().getAge(), is(99));
+		assertThat(cache.getStatistics(Customer.class).getMisses(), is(1L));
+	}
+
+	@Test
+	public void invalidateOnTruncate() {
+		enableCache(10, 60000, Mode.TRUST);
+		final Customer customer = new Customer("John", "Doe", 30);
+		template.insert(customer);
+		template.collection(Customer.class).truncate();
+		assertThat(template.find(customer.getId(), Customer.class).isPresent(), is(false));
+	}
+
+	@Test
+	public void evictLeastRecentlyUsed() {
+		final EntityCache cache = enableCache(2, 60000, Mode.TRUST);
+		template.insert(new Customer("John", "Doe", 30));
+		template.insert(new Customer("Jane", "Doe", 26));
+		template.insert(new Customer("Jack", "Doe", 35));
+		assertThat(cache.getStatistics(Customer.class).getEvictions(), is(1L));
+		assertThat(cache.getStatistics(Customer.class).getSize(), is(2L));
+	}
+
+	@Test
+	public void expire() throws InterruptedException {
+		final EntityCache cache = enableCache(10, 1, Mode.TRUST);
+		final Customer customer = new Customer("John", "Doe", 30);
+		template.insert(customer);
+		Thread.sleep(10);
+		template.find(customer.getId(), Customer.class);
+		assertThat(cache.getStatistics(Customer.class).getMisses(), is(1L));
+		assertThat(cache.getStatistics().getEvictions(), is(1L));
+	}
+
+}
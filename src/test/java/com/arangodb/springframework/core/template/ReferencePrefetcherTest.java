@@ -0,0 +1,143 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2018 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.core.template;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.arangodb.model.AqlQueryOptions;
+import com.arangodb.springframework.AbstractArangoTest;
+import com.arangodb.springframework.ArangoTestConfiguration;
+import com.arangodb.springframework.testdata.Customer;
+import com.arangodb.springframework.testdata.Owns;
+import com.arangodb.springframework.testdata.Product;
+import com.arangodb.springframework.testdata.ShoppingCart;
+import com.arangodb.velocypack.VPackSlice;
+
+/**
+ * @author Mark Vollmary
+ *
+ */
+public class ReferencePrefetcherTest extends AbstractArangoTest {
+
+	public ReferencePrefetcherTest() {
+		super(Customer.class, Product.class, Owns.class, ShoppingCart.class);
+	}
+
+	@Test
+	public void prefetchRefs() {
+		final Product phone = new Product("phone");
+		final Product car = new Product("car");
+		template.insert(phone);
+		template.insert(car);
+		final ShoppingCart cart = new ShoppingCart();
+		cart.setProducts(Arrays.asList(phone, car));
+		template.insert(cart);
+
+		final AtomicInteger requests = new AtomicInteger();
+		final ReferencePrefetcher prefetcher = new ReferencePrefetcher(template.getConverter(), (collection, keys) -> {
+			requests.incrementAndGet();
+			return template.driver().db(ArangoTestConfiguration.DB).collection(collection)
+					.getDocuments(keys, VPackSlice.class).getDocuments();
+		});
+		final VPackSlice carts = template.query("RETURN (FOR c IN `shopping-cart` RETURN c)", VPackSlice.class)
+				.first();
+		final ReadContext context = prefetcher.prefetch(carts, ShoppingCart.class);
+		assertThat(requests.get(), is(1));
+		assertThat(context.get("product/" + phone.getId()).get("name").getAsString(), is("phone"));
+		assertThat(context.get("product/" + car.getId()).get("name").getAsString(), is("car"));
+	}
+
+	@Test
+	public void resolveEdgesPerBatch() {
+		final Customer john = new Customer("John", "Doe", 30);
+		final Customer jane = new Customer("Jane", "Doe", 31);
+		template.insert(john);
+		template.insert(jane);
+		final Product phone = new Product("phone");
+		final Product car = new Product("car");
+		template.insert(phone);
+		template.insert(car);
+		template.insert(new Owns(john, phone));
+		template.insert(new Owns(john, car));
+		template.insert(new Owns(jane, phone));
+
+		final List<Owns> owns = template.query("FOR e IN owns SORT e._key RETURN e", null,
+			new AqlQueryOptions().batchSize(2), Owns.class).asListRemaining();
+		assertThat(owns.size(), is(3));
+		assertThat(owns.get(0).getFrom().getName(), is("John"));
+		assertThat(owns.get(0).getTo().getName(), is("phone"));
+		assertThat(owns.get(1).getFrom().getName(), is("John"));
+		assertThat(owns.get(1).getTo().getName(), is("car"));
+		assertThat(owns.get(2).getFrom().getName(), is("Jane"));
+		assertThat(owns.get(2).getTo().getName(), is("phone"));
+	}
+
+	@Test
+	public void prefetchOneRequestPerCollection() {
+		final Customer john = new Customer("John", "Doe", 30);
+		final Customer jane = new Customer("Jane", "Doe", 31);
+		template.insert(john);
+		template.insert(jane);
+		final Product phone = new Product("phone");
+		template.insert(phone);
+		template.insert(new Owns(john, phone));
+		template.insert(new Owns(jane, phone));
+		template.delete(jane.getId(), Customer.class);
+
+		final AtomicInteger requests = new AtomicInteger();
+		final ReferencePrefetcher prefetcher = new ReferencePrefetcher(template.getConverter(), (collection, keys) -> {
+			requests.incrementAndGet();
+			return template.driver().db(ArangoTestConfiguration.DB).collection(collection)
+					.getDocuments(keys, VPackSlice.class).getDocuments();
+		});
+		final VPackSlice edges = template.query("RETURN (FOR e IN owns RETURN e)", VPackSlice.class).first();
+		final ReadContext context = prefetcher.prefetch(edges, Owns.class);
+		assertThat(requests.get(), is(2));
+		assertThat(context.get(john.getArangoId()).get("name").getAsString(), is("John"));
+		assertThat(context.contains(jane.getArangoId()), is(true));
+		assertThat(context.get(jane.getArangoId()), is(nullValue()));
+		assertThat(context.get("product/" + phone.getId()).get("name").getAsString(), is("phone"));
+	}
+
+	@Test
+	public void referenceToUnknownCollection() {
+		template.query("INSERT { products: ['unknown-collection/1'] } INTO `shopping-cart`", VPackSlice.class);
+		try {
+			template.query("FOR c IN `shopping-cart` RETURN c", ShoppingCart.class).asListRemaining();
+			fail();
+		} catch (final NoSuchElementException e) {
+			// the referenced document is missing
+		}
+		assertThat(template.driver().db(ArangoTestConfiguration.DB).collection("unknown-collection").exists(),
+			is(false));
+	}
+
+}
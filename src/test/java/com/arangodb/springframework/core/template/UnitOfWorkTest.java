@@ -0,0 +1,113 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2018 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.springframework.core.template;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import com.arangodb.springframework.AbstractArangoTest;
+import com.arangodb.springframework.core.BulkWriteResult;
+import com.arangodb.springframework.core.UnitOfWork;
+import com.arangodb.springframework.testdata.Customer;
+
+/**
+ * @author Mark Vollmary
+ *
+ */
+public class UnitOfWorkTest extends AbstractArangoTest {
+
+	public UnitOfWorkTest() {
+		super(Customer.class);
+	}
+
+	@Test
+	public void flushOnClose() {
+		final Customer john = new Customer("John", "Doe", 30);
+		final Customer jane = new Customer("Jane", "Doe", 26);
+		try (UnitOfWork unitOfWork = template.unitOfWork()) {
+			unitOfWork.insert(john);
+			unitOfWork.insert(jane);
+			assertThat(template.collection(Customer.class).count(), is(0L));
+		}
+		assertThat(john.getId(), is(notNullValue()));
+		assertThat(jane.getId(), is(notNullValue()));
+		assertThat(template.collection(Customer.class).count(), is(2L));
+	}
+
+	@Test
+	public void coalesceUpdates() {
+		final Customer john = new Customer("John", "Doe", 30);
+		template.insert(john);
+		final UnitOfWork unitOfWork = template.unitOfWork();
+		john.setAge(31);
+		unitOfWork.update(john);
+		final Customer copy = template.find(john.getId(), Customer.class).get();
+		copy.setAge(32);
+		unitOfWork.update(copy);
+		final Customer jane = new Customer("Jane", "Doe", 26);
+		unitOfWork.insert(jane);
+		unitOfWork.update(jane);
+		final BulkWriteResult res = unitOfWork.flush();
+		assertThat(res.getChunks(), is(2));
+		assertThat(res.getDocuments(), is(2L));
+		assertThat(template.find(john.getId(), Customer.class).get().getAge(), is(32));
+	}
+
+	@Test
+	public void deleteDiscardsUpdate() {
+		final Customer john = new Customer("John", "Doe", 30);
+		template.insert(john);
+		final UnitOfWork unitOfWork = template.unitOfWork();
+		john.setAge(31);
+		unitOfWork.update(john);
+		unitOfWork.delete(john.getId(), Customer.class);
+		final BulkWriteResult res = unitOfWork.flush();
+		assertThat(res.getChunks(), is(1));
+		assertThat(template.exists(john.getId(), Customer.class), is(false));
+	}
+
+	@Test
+	public void flushBeforeCommit() {
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			final UnitOfWork unitOfWork = template.unitOfWork();
+			assertThat(template.unitOfWork(), is(sameInstance(unitOfWork)));
+			final Customer john = new Customer("John", "Doe", 30);
+			unitOfWork.insert(john);
+			unitOfWork.close();
+			assertThat(template.collection(Customer.class).count(), is(0L));
+			TransactionSynchronizationUtils.triggerBeforeCommit(false);
+			assertThat(template.exists(john.getId(), Customer.class), is(true));
+			TransactionSynchronizationUtils.triggerAfterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+			assertThat(TransactionSynchronizationManager.hasResource(template), is(false));
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+}
@@ -5,6 +5,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -26,6 +27,7 @@ import com.arangodb.model.AqlQueryOptions;
 import com.arangodb.springframework.annotation.BindVars;
 import com.arangodb.springframework.annotation.Query;
 import com.arangodb.springframework.annotation.QueryOptions;
+import com.arangodb.springframework.annotation.QueryResultCache;
 import com.arangodb.springframework.repository.query.derived.geo.Ring;
 import com.arangodb.springframework.testdata.Customer;
 import com.arangodb.springframework.testdata.CustomerNameProjection;
@@ -77,6 +79,14 @@ public interface CustomerRepository extends ArangoRepository<Customer, String> {
 	@Query("FOR c in #collection FILTER c.surname == @0 RETURN c")
 	List<Customer> findManyBySurname(String surname);
 
+	@Query("FOR c IN #collection FILTER c.surname == @0 SORT c.age RETURN c")
+	@QueryOptions(batchSize = 1)
+	Stream<Customer> streamManyBySurname(String surname);
+
+	@Query("FOR c IN #collection FILTER c.surname == @0 SORT c.age RETURN c")
+	@QueryResultCache
+	List<Customer> findManyBySurnameCached(String surname);
+
 	Set<Customer> findDistinctByNameAfter(String name);
 
 	List<Customer> findByNameNotIgnoreCaseAndAgeLessThanIgnoreCaseOrderByNameDesc(String name, int age);
@@ -1,19 +1,25 @@
 package com.arangodb.springframework.repository.query;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.collection.IsIn.isOneOf;
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.junit.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -31,6 +37,8 @@ import com.arangodb.springframework.repository.AbstractArangoRepositoryTest;
 import com.arangodb.springframework.repository.OverriddenCrudMethodsRepository;
 import com.arangodb.springframework.testdata.Customer;
 import com.arangodb.springframework.testdata.CustomerNameProjection;
+import com.arangodb.springframework.testdata.Product;
+import com.arangodb.springframework.testdata.ShoppingCart;
 
 /**
  * 
@@ -152,6 +160,57 @@ public class ArangoAqlQueryTest extends AbstractArangoRepositoryTest {
 
 	}
 
+	@Test
+	public void streamManyBySurnameTest() {
+		final List<Customer> toBeRetrieved = new LinkedList<>();
+		toBeRetrieved.add(new Customer("Matt", "Smith", 34));
+		toBeRetrieved.add(new Customer("James", "Smith", 35));
+		toBeRetrieved.add(new Customer("Adam", "Smith", 36));
+		repository.saveAll(toBeRetrieved);
+		repository.save(new Customer("John", "Doe", 30));
+		try (Stream<Customer> stream = repository.streamManyBySurname("Smith")) {
+			final List<String> names = stream.map(Customer::getName).collect(Collectors.toList());
+			assertThat(names.size(), is(3));
+			assertThat(names.get(0), is("Matt"));
+			assertThat(names.get(2), is("Adam"));
+		}
+	}
+
+	@Test
+	public void findManyBySurnameCachedTest() {
+		repository.saveAll(Arrays.asList(new Customer("Matt", "Smith", 34), new Customer("James", "Smith", 35)));
+		final List<Customer> retrieved = repository.findManyBySurnameCached("Smith");
+		assertThat(retrieved.size(), is(2));
+		// modifying a result does not affect other callers
+		retrieved.get(0).setName("Modified");
+		retrieved.remove(1);
+		final List<Customer> cached = repository.findManyBySurnameCached("Smith");
+		assertThat(cached, is(not(sameInstance(retrieved))));
+		assertThat(cached.stream().map(Customer::getName).collect(Collectors.toList()), contains("Matt", "James"));
+		assertThat(repository.findManyBySurnameCached("Doe").isEmpty(), is(true));
+
+		template.insert(new Customer("Adam", "Smith", 36));
+		final List<Customer> invalidated = repository.findManyBySurnameCached("Smith");
+		assertThat(invalidated.size(), is(3));
+	}
+
+	@Test
+	public void findManyBySurnameCachedInvalidatedByReference() {
+		final ShoppingCart cart = new ShoppingCart();
+		template.insert(cart);
+		final Customer customer = new Customer("Matt", "Smith", 34);
+		customer.setShoppingCart(cart);
+		repository.save(customer);
+		assertThat(repository.findManyBySurnameCached("Smith").get(0).getShoppingCart().getProducts().isEmpty(),
+			is(true));
+
+		final Product product = new Product("Apple");
+		template.insert(product);
+		cart.setProducts(Arrays.asList(product));
+		template.repsert(cart);
+		assertThat(repository.findManyBySurnameCached("Smith").get(0).getShoppingCart().getProducts().size(), is(1));
+	}
+
 	@Test
 	public void queryCount() {
 		assertEquals(repository.queryCount(Customer.class), 0L);